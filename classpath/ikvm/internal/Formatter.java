@@ -24,8 +24,6 @@
 package ikvm.internal;
 
 import cli.System.IFormatProvider;
-import cli.System.IFormattable;
-import ikvm.lang.CIL;
 import ikvm.lang.Internal;
 
 @Internal
@@ -35,31 +33,69 @@ public final class Formatter
 
     public static String ToString(Byte b, String format, IFormatProvider provider)
     {
-        return CIL.box_sbyte(b.byteValue()).ToString(format, provider);
+        return ToString(b.byteValue(), format, provider);
     }
 
     public static String ToString(Short s, String format, IFormatProvider provider)
     {
-        return CIL.box_short(s.shortValue()).ToString(format, provider);
+        return ToString(s.shortValue(), format, provider);
     }
 
     public static String ToString(Integer i, String format, IFormatProvider provider)
     {
-        return CIL.box_int(i.intValue()).ToString(format, provider);
+        return ToString(i.intValue(), format, provider);
     }
 
     public static String ToString(Long l, String format, IFormatProvider provider)
     {
-        return CIL.box_long(l.longValue()).ToString(format, provider);
+        return ToString(l.longValue(), format, provider);
     }
 
     public static String ToString(Float f, String format, IFormatProvider provider)
     {
-        return CIL.box_float(f.floatValue()).ToString(format, provider);
+        return ToString(f.floatValue(), format, provider);
     }
 
     public static String ToString(Double d, String format, IFormatProvider provider)
     {
-        return CIL.box_double(d.doubleValue()).ToString(format, provider);
+        return ToString(d.doubleValue(), format, provider);
     }
+
+    // the primitive overloads call the CLR's ToString directly on the value, so the value doesn't need to be boxed
+    public static String ToString(byte b, String format, IFormatProvider provider)
+    {
+        return formatByte(b, format, provider);
+    }
+
+    public static String ToString(short s, String format, IFormatProvider provider)
+    {
+        return formatShort(s, format, provider);
+    }
+
+    public static String ToString(int i, String format, IFormatProvider provider)
+    {
+        return formatInt(i, format, provider);
+    }
+
+    public static String ToString(long l, String format, IFormatProvider provider)
+    {
+        return formatLong(l, format, provider);
+    }
+
+    public static String ToString(float f, String format, IFormatProvider provider)
+    {
+        return formatFloat(f, format, provider);
+    }
+
+    public static String ToString(double d, String format, IFormatProvider provider)
+    {
+        return formatDouble(d, format, provider);
+    }
+
+    private static native String formatByte(byte b, String format, IFormatProvider provider);
+    private static native String formatShort(short s, String format, IFormatProvider provider);
+    private static native String formatInt(int i, String format, IFormatProvider provider);
+    private static native String formatLong(long l, String format, IFormatProvider provider);
+    private static native String formatFloat(float f, String format, IFormatProvider provider);
+    private static native String formatDouble(double d, String format, IFormatProvider provider);
 }
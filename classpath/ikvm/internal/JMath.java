@@ -34,7 +34,6 @@
  */
 
 package ikvm.internal;
-import java.util.Random;
 
 
 /*
@@ -49,7 +48,6 @@ import java.util.Random;
 public final class JMath {
     static public final double PI = 0x1.921fb54442d18p1; /* 3.14159265358979323846 */
     static public final double E = 2.7182818284590452354;
-    static private Random random;
 
     /**
      *        Returns the absolute value of its argument.
@@ -227,11 +225,10 @@ public final class JMath {
      *        Returns the random number.
      *        @return        Returns a random number from a uniform distribution.
      */
-    synchronized strictfp public static double random() {
-        if (random == null) {
-            random = new Random();
-        }
-        return random.nextDouble();
+    strictfp public static double random() {
+        // [IKVM] Math.random() and StrictMath.random() are redirected here (in map.xml),
+        // we use a per-thread generator to avoid contention on a single shared Random
+        return java.util.concurrent.ThreadLocalRandom.current().nextDouble();
     }
 
     /*
@@ -909,8 +906,9 @@ public final class JMath {
         } else {
 
             /* argument reduction needed */
-            double[] y = new double[2];
-            n = __ieee754_rem_pio2(x, y);
+            RemPio2 scratch = RemPio2.get();
+            double[] y = scratch.y;
+            n = __ieee754_rem_pio2(x, scratch);
             switch (n & 3) {
             case 0:
                 return __kernel_sin(y[0], y[1], 1);
@@ -1002,8 +1000,9 @@ public final class JMath {
 
             /* argument reduction needed */
         } else {
-            double[] y = new double[2];
-            n = __ieee754_rem_pio2(x, y);
+            RemPio2 scratch = RemPio2.get();
+            double[] y = scratch.y;
+            n = __ieee754_rem_pio2(x, scratch);
             switch (n & 3) {
             case 0:
                 return __kernel_cos(y[0], y[1]);
@@ -1114,8 +1113,9 @@ public final class JMath {
         } else {
 
             /* argument reduction needed */
-            double[] y = new double[2];
-            n = __ieee754_rem_pio2(x, y);
+            RemPio2 scratch = RemPio2.get();
+            double[] y = scratch.y;
+            n = __ieee754_rem_pio2(x, scratch);
 
             /*   1 -- n even -1 -- n odd */
             return __kernel_tan(y[0], y[1], 1 - ((n & 1) << 1));
@@ -1776,9 +1776,36 @@ public final class JMath {
     static private final double pio2_3t = 0x1.b839a252049c1p-104; /* 8.47842766036889956997e-32 pi/2 - (pio2_1+pio2_2+pio2_3) */
 
     /*
-     *        Return the remainder of x % pi/2 in y[0]+y[1]
+     *        Per-thread scratch space for the argument reduction, so that sin, cos
+     *        and tan don't have to allocate arrays for every reduced argument.
+     *        Note that __kernel_rem_pio2 never reads an element it hasn't written
+     *        during the same call, so the arrays don't need to be cleared.
+     */
+    static private final class RemPio2 {
+        @cli.System.ThreadStaticAttribute.Annotation
+        static private RemPio2 instance;
+
+        final double[] y = new double[2];
+        final double[] tx = new double[3];
+        final double[] f = new double[20];
+        final double[] q = new double[20];
+        final double[] fq = new double[20];
+        final int[] iq = new int[20];
+
+        static RemPio2 get() {
+            RemPio2 scratch = instance;
+            if (scratch == null) {
+                instance = scratch = new RemPio2();
+            }
+            return scratch;
+        }
+    }
+
+    /*
+     *        Return the remainder of x % pi/2 in scratch.y[0]+scratch.y[1]
      */
-    static private int __ieee754_rem_pio2(double x, double[] y) {
+    static private int __ieee754_rem_pio2(double x, RemPio2 scratch) {
+        double[] y = scratch.y;
         double z = zero;
         double w;
         double t;
@@ -1878,7 +1905,7 @@ public final class JMath {
         }
 
         /* set z = scalbn(|x|,ilogb(x)-23) */
-        double[] tx = new double[3];
+        double[] tx = scratch.tx;
         long lx = Double.doubleToLongBits(x);
         long exp = (0x7ff0000000000000L & lx) >> 52;
         exp -= 1046;
@@ -1893,7 +1920,7 @@ public final class JMath {
         nx = 3;
         while (tx[nx - 1] == zero)
             nx--; /* skip zero term */
-        n = __kernel_rem_pio2(tx, y, (int) exp, nx);
+        n = __kernel_rem_pio2(tx, y, (int) exp, nx, scratch);
         //System.out.println("KERNEL");
         //System.out.println("tx "+tx[0]+"  "+tx[1]+"  "+tx[2]);
         //System.out.println("y "+y[0]+"  "+y[1]);
@@ -2031,7 +2058,7 @@ public final class JMath {
         };
     static final private double twon24 = 0x1.0p-24; /* 5.96046447753906250000e-08 */
 
-    static private int __kernel_rem_pio2(double[] x, double[] y, int e0, int nx) {
+    static private int __kernel_rem_pio2(double[] x, double[] y, int e0, int nx, RemPio2 scratch) {
         int jz;
         int jx;
         int jv;
@@ -2047,10 +2074,10 @@ public final class JMath {
         int ih;
         double z;
         double fw;
-        double[] f = new double[20];
-        double[] q = new double[20];
-        double[] fq = new double[20];
-        int[] iq = new int[20];
+        double[] f = scratch.f;
+        double[] q = scratch.q;
+        double[] fq = scratch.fq;
+        int[] iq = scratch.iq;
 
         /* initialize jk*/
         jk = 4;
@@ -23,7 +23,6 @@
 */
 package ikvm.runtime;
 
-import cli.System.AppDomain;
 import cli.System.Reflection.Assembly;
 import java.io.IOException;
 import java.net.URL;
@@ -39,19 +38,16 @@ public final class AppDomainAssemblyClassLoader extends ClassLoader
 
     protected Class findClass(String name) throws ClassNotFoundException
     {
-	Assembly[] assemblies = AppDomain.get_CurrentDomain().GetAssemblies();
-	for (int i = 0; i < assemblies.length; i++)
+	Class c = findClassInAppDomain(name);
+	if (c == null)
 	{
-	    Class c = loadClassFromAssembly(assemblies[i], name);
-	    if (c != null)
-	    {
-		return c;
-	    }
+	    throw new ClassNotFoundException(name);
 	}
-	throw new ClassNotFoundException(name);
+	return c;
     }
 
-    private static native Class loadClassFromAssembly(Assembly asm, String className);
+    // searches the assemblies in the AppDomain (in load order), misses are cached until the next assembly load
+    private static native Class findClassInAppDomain(String className);
 
     protected native URL findResource(String name);
 
@@ -25,19 +25,241 @@ package ikvm.runtime;
 
 import cli.System.Reflection.Assembly;
 import java.io.File;
+import java.io.IOException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.StringTokenizer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import sun.misc.FileURLMapper;
 import sun.net.www.ParseUtil;
 
 public final class ClassPathAssemblyClassLoader extends URLClassLoader
 {
+    // marks a jar whose manifest has a Class-Path attribute (or that we couldn't read for another reason
+    // than it not existing), URLClassPath will search additional jars for it, so we can't index the class path
+    private static final String[] UNINDEXABLE = new String[0];
+    private final Object indexLock = new Object();
+    private boolean indexBuilt;
+    private Index index;
+
+    // The names of all the entries in the class path jars, plus the class path directories (that we can't index,
+    // because their contents may change). This allows lookups for names that are not on the class path to
+    // fail without probing every entry. Hits are still handled by URLClassPath, so the first entry that
+    // contains a name still wins and classes, packages and code sources are defined exactly as before.
+    private static final class Index
+    {
+	final HashSet<String> names = new HashSet<String>();
+	final ArrayList<File> directories = new ArrayList<File>();
+    }
+
     public ClassPathAssemblyClassLoader(Assembly assembly)
     {
 	super(buildURLs(), new AssemblyClassLoader(assembly));
     }
 
+    protected Class<?> findClass(String name) throws ClassNotFoundException
+    {
+	if (isNotOnClassPath(name.replace('.', '/').concat(".class")))
+	{
+	    throw new ClassNotFoundException(name);
+	}
+	return super.findClass(name);
+    }
+
+    public URL findResource(String name)
+    {
+	if (isNotOnClassPath(name))
+	{
+	    return null;
+	}
+	return super.findResource(name);
+    }
+
+    protected void addURL(URL url)
+    {
+	synchronized (indexLock)
+	{
+	    // the index no longer covers the whole class path
+	    indexBuilt = true;
+	    index = null;
+	}
+	super.addURL(url);
+    }
+
+    private boolean isNotOnClassPath(String path)
+    {
+	if (path.length() == 0 || path.startsWith("/") || path.endsWith("/") || path.indexOf("..") != -1)
+	{
+	    // leave the interpretation of unusual names to URLClassPath
+	    return false;
+	}
+	Index idx;
+	synchronized (indexLock)
+	{
+	    if (!indexBuilt)
+	    {
+		final URL[] urls = getURLs();
+		index = AccessController.doPrivileged(new PrivilegedAction<Index>() {
+		    public Index run() {
+			return buildIndex(urls);
+		    }
+		});
+		indexBuilt = true;
+	    }
+	    idx = index;
+	}
+	if (idx == null || idx.names.contains(path))
+	{
+	    return false;
+	}
+	for (int i = 0; i < idx.directories.size(); i++)
+	{
+	    if (new File(idx.directories.get(i), path).exists())
+	    {
+		return false;
+	    }
+	}
+	return true;
+    }
+
+    private static Index buildIndex(URL[] urls)
+    {
+	final File[] jars = new File[urls.length];
+	Index idx = new Index();
+	for (int i = 0; i < urls.length; i++)
+	{
+	    if (!urls[i].getProtocol().equals("file"))
+	    {
+		return null;
+	    }
+	    // we map the URLs to files in the same way as URLClassPath, which treats a URL
+	    // that ends with a slash as a directory and anything else as a jar
+	    if (urls[i].getFile().endsWith("/"))
+	    {
+		idx.directories.add(new File(ParseUtil.decode(urls[i].getFile()).replace('/', File.separatorChar)));
+	    }
+	    else
+	    {
+		String path = new FileURLMapper(urls[i]).getPath();
+		if (path == null)
+		{
+		    return null;
+		}
+		jars[i] = new File(path);
+	    }
+	}
+	// reading the central directories is mostly I/O bound, so we do it in parallel
+	final String[][] entries = new String[jars.length][];
+	final AtomicInteger next = new AtomicInteger();
+	Runnable reader = new Runnable() {
+	    public void run() {
+		for (int i; (i = next.getAndIncrement()) < jars.length; )
+		{
+		    if (jars[i] != null)
+		    {
+			entries[i] = readEntries(jars[i]);
+		    }
+		}
+	    }
+	};
+	int threadCount = Math.min(Math.min(Runtime.getRuntime().availableProcessors(), 8), jars.length) - 1;
+	Thread[] threads = new Thread[Math.max(threadCount, 0)];
+	for (int i = 0; i < threads.length; i++)
+	{
+	    threads[i] = new Thread(reader, "Class Path Indexer");
+	    threads[i].setDaemon(true);
+	    threads[i].start();
+	}
+	reader.run();
+	for (int i = 0; i < threads.length; i++)
+	{
+	    boolean interrupted = false;
+	    for (;;)
+	    {
+		try
+		{
+		    threads[i].join();
+		    break;
+		}
+		catch (InterruptedException _)
+		{
+		    interrupted = true;
+		}
+	    }
+	    if (interrupted)
+	    {
+		Thread.currentThread().interrupt();
+	    }
+	}
+	for (int i = 0; i < entries.length; i++)
+	{
+	    if (entries[i] == UNINDEXABLE)
+	    {
+		return null;
+	    }
+	    if (entries[i] != null)
+	    {
+		for (String name : entries[i])
+		{
+		    idx.names.add(name);
+		}
+	    }
+	}
+	return idx;
+    }
+
+    private static String[] readEntries(File file)
+    {
+	if (!file.isFile())
+	{
+	    // URLClassPath will ignore it as well
+	    return null;
+	}
+	try
+	{
+	    JarFile jar = new JarFile(file, false);
+	    try
+	    {
+		Manifest manifest = jar.getManifest();
+		if (manifest != null && manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH) != null)
+		{
+		    return UNINDEXABLE;
+		}
+		ArrayList<String> list = new ArrayList<String>(jar.size());
+		for (Enumeration<JarEntry> e = jar.entries(); e.hasMoreElements(); )
+		{
+		    String name = e.nextElement().getName();
+		    if (!name.endsWith("/"))
+		    {
+			list.add(name);
+		    }
+		}
+		return list.toArray(new String[list.size()]);
+	    }
+	    finally
+	    {
+		jar.close();
+	    }
+	}
+	catch (IOException _)
+	{
+	    return UNINDEXABLE;
+	}
+	catch (SecurityException _)
+	{
+	    return UNINDEXABLE;
+	}
+    }
+
     private static URL[] buildURLs()
     {
 	// we can assume we're already runnning in a privileged context
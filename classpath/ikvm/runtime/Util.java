@@ -52,4 +52,18 @@ public final class Util
     {
         Unsafe.getUnsafe().throwException(x);
     }
+
+    // Java threads started in the specified group (or in any of its subgroups that doesn't have its own setting)
+    // will run on pooled CLR threads. The default for groups without a setting is controlled by the
+    // ikvm.thread.pool system property. A pooled CLR thread has its Java visible state, culture, principal and
+    // JNIEnv reset before it is reused, it is discarded instead if its name was set or it still owns JNI monitors.
+    public static void setThreadPooling(ThreadGroup group, boolean pooled)
+    {
+        if (group == null)
+        {
+            throw new NullPointerException();
+        }
+        group.checkAccess();
+        Thread.setCarrierPooled(group, pooled);
+    }
 }
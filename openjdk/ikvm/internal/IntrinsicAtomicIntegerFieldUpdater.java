@@ -0,0 +1,97 @@
+/*
+  Copyright (C) 2010 Jeroen Frijters
+
+  This software is provided 'as-is', without any express or implied
+  warranty.  In no event will the authors be held liable for any damages
+  arising from the use of this software.
+
+  Permission is granted to anyone to use this software for any purpose,
+  including commercial applications, and to alter it and redistribute it
+  freely, subject to the following restrictions:
+
+  1. The origin of this software must not be misrepresented; you must not
+     claim that you wrote the original software. If you use this software
+     in a product, an acknowledgment in the product documentation would be
+     appreciated but is not required.
+  2. Altered source versions must be plainly marked as such, and must not be
+     misrepresented as being the original software.
+  3. This notice may not be removed or altered from any source distribution.
+
+  Jeroen Frijters
+  jeroen@frijters.net
+  
+*/
+package ikvm.internal;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+// This is the base class for intrinsified AtomicIntegerFieldUpdater.
+// The real class of an intrinsic AIFU is a subclass of this, but since it
+// is not visible to Java code, this class serves as the class.
+
+public class IntrinsicAtomicIntegerFieldUpdater<T> extends AtomicIntegerFieldUpdater<T>
+{
+    protected IntrinsicAtomicIntegerFieldUpdater()
+    {
+    }
+
+    public boolean compareAndSet(T obj, int expect, int update)
+    {
+        throw new AbstractMethodError();
+    }
+    
+    public final boolean weakCompareAndSet(T obj, int expect, int update)
+    {
+        return compareAndSet(obj, expect, update);
+    }
+    
+    public void set(T obj, int newValue)
+    {
+        throw new AbstractMethodError();
+    }
+    
+    public final void lazySet(T obj, int newValue)
+    {
+        set(obj, newValue);
+    }
+    
+    public int get(T obj)
+    {
+        throw new AbstractMethodError();
+    }
+
+    public int getAndSet(T obj, int newValue)
+    {
+        throw new AbstractMethodError();
+    }
+
+    public int getAndAdd(T obj, int delta)
+    {
+        throw new AbstractMethodError();
+    }
+
+    public final int getAndIncrement(T obj)
+    {
+        return getAndAdd(obj, 1);
+    }
+
+    public final int getAndDecrement(T obj)
+    {
+        return getAndAdd(obj, -1);
+    }
+
+    public final int incrementAndGet(T obj)
+    {
+        return getAndAdd(obj, 1) + 1;
+    }
+
+    public final int decrementAndGet(T obj)
+    {
+        return getAndAdd(obj, -1) - 1;
+    }
+
+    public final int addAndGet(T obj, int delta)
+    {
+        return getAndAdd(obj, delta) + delta;
+    }
+}
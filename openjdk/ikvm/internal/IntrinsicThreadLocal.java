@@ -34,6 +34,51 @@ package ikvm.internal;
 
 public abstract class IntrinsicThreadLocal extends ThreadLocal
 {
+    // all instances, so that pooled carrier threads (see java.lang.Thread) can clear their values.
+    // The instances are held weakly, to avoid keeping collectible dynamic classes (and their class loaders) alive.
+    // An instance is only collected together with the class that owns it (and the nested type that holds its
+    // [ThreadStatic] field), so a value that we can no longer clear can't be observed either.
+    private static final java.util.ArrayList<java.lang.ref.WeakReference<IntrinsicThreadLocal>> instances = new java.util.ArrayList<java.lang.ref.WeakReference<IntrinsicThreadLocal>>();
+    private static int pruneThreshold = 16;
+
+    protected IntrinsicThreadLocal()
+    {
+        synchronized (instances)
+        {
+            if (instances.size() >= pruneThreshold)
+            {
+                for (java.util.Iterator<java.lang.ref.WeakReference<IntrinsicThreadLocal>> it = instances.iterator(); it.hasNext(); )
+                {
+                    if (it.next().get() == null)
+                    {
+                        it.remove();
+                    }
+                }
+                pruneThreshold = Math.max(16, instances.size() * 2);
+            }
+            instances.add(new java.lang.ref.WeakReference<IntrinsicThreadLocal>(this));
+        }
+    }
+
+    // clears the values of all intrinsified ThreadLocals for the current CLR thread
+    @ikvm.lang.Internal
+    public static void clearAll()
+    {
+        Object[] arr;
+        synchronized (instances)
+        {
+            arr = instances.toArray();
+        }
+        for (Object o : arr)
+        {
+            IntrinsicThreadLocal tl = ((java.lang.ref.WeakReference<IntrinsicThreadLocal>)o).get();
+            if (tl != null)
+            {
+                tl.set(null);
+            }
+        }
+    }
+
     public final void remove()
     {
         set(null);
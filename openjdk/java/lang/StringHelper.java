@@ -28,14 +28,12 @@ package java.lang;
 import java.io.ObjectStreamField;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Formatter;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.StringJoiner;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -282,6 +280,171 @@ final class StringHelper
             throw new StringIndexOutOfBoundsException(offset + length);
     }
 
+    // [IKVM] Fast paths for the most common charsets. They produce exactly the same result as
+    // StringCoding, but they don't go through the CharsetDecoder/CharsetEncoder and intermediate
+    // buffers. If the input contains malformed or unmappable sequences they return null and the
+    // caller falls back to StringCoding (to get the charset's replacement behavior).
+    private static final int CS_OTHER = 0;
+    private static final int CS_UTF_8 = 1;
+    private static final int CS_ISO_8859_1 = 2;
+    private static final int CS_US_ASCII = 3;
+
+    private static int getFastCharset(String name) {
+        if (name.equalsIgnoreCase("UTF-8")) {
+            return CS_UTF_8;
+        } else if (name.equalsIgnoreCase("ISO-8859-1")) {
+            return CS_ISO_8859_1;
+        } else if (name.equalsIgnoreCase("US-ASCII")) {
+            return CS_US_ASCII;
+        }
+        return CS_OTHER;
+    }
+
+    private static String decodeFast(int cs, byte[] ba, int off, int len) {
+        if (cs == CS_OTHER) {
+            return null;
+        }
+        // for all three charsets, the number of chars is at most the number of bytes
+        char[] ca = new char[len];
+        int sp = off;
+        int sl = off + len;
+        int dp = 0;
+        while (sp < sl && ba[sp] >= 0) {
+            ca[dp++] = (char)ba[sp++];
+        }
+        if (sp == sl) {
+            return new String(ca);
+        }
+        switch (cs) {
+            case CS_ISO_8859_1:
+                while (sp < sl) {
+                    ca[dp++] = (char)(ba[sp++] & 0xff);
+                }
+                return new String(ca);
+            case CS_US_ASCII:
+                while (sp < sl) {
+                    byte b = ba[sp++];
+                    ca[dp++] = b >= 0 ? (char)b : '\ufffd';
+                }
+                return new String(ca);
+        }
+        while (sp < sl) {
+            int b1 = ba[sp];
+            if (b1 >= 0) {
+                ca[dp++] = (char)b1;
+                sp++;
+            } else if ((b1 >> 5) == -2 && (b1 & 0x1e) != 0) {
+                // 110xxxxx 10xxxxxx (but not the overlong C0 and C1 leading bytes)
+                if (sp + 1 >= sl) {
+                    return null;
+                }
+                int b2 = ba[sp + 1];
+                if ((b2 & 0xc0) != 0x80) {
+                    return null;
+                }
+                ca[dp++] = (char)(((b1 & 0x1f) << 6) | (b2 & 0x3f));
+                sp += 2;
+            } else if ((b1 >> 4) == -2) {
+                // 1110xxxx 10xxxxxx 10xxxxxx
+                if (sp + 2 >= sl) {
+                    return null;
+                }
+                int b2 = ba[sp + 1];
+                int b3 = ba[sp + 2];
+                if ((b2 & 0xc0) != 0x80 || (b3 & 0xc0) != 0x80) {
+                    return null;
+                }
+                char c = (char)(((b1 & 0x0f) << 12) | ((b2 & 0x3f) << 6) | (b3 & 0x3f));
+                if (c < 0x800 || Character.isSurrogate(c)) {
+                    return null;
+                }
+                ca[dp++] = c;
+                sp += 3;
+            } else if ((b1 >> 3) == -2) {
+                // 11110xxx 10xxxxxx 10xxxxxx 10xxxxxx
+                if (sp + 3 >= sl) {
+                    return null;
+                }
+                int b2 = ba[sp + 1];
+                int b3 = ba[sp + 2];
+                int b4 = ba[sp + 3];
+                if ((b2 & 0xc0) != 0x80 || (b3 & 0xc0) != 0x80 || (b4 & 0xc0) != 0x80) {
+                    return null;
+                }
+                int cp = ((b1 & 0x07) << 18) | ((b2 & 0x3f) << 12) | ((b3 & 0x3f) << 6) | (b4 & 0x3f);
+                if (cp < Character.MIN_SUPPLEMENTARY_CODE_POINT || cp > Character.MAX_CODE_POINT) {
+                    return null;
+                }
+                ca[dp++] = Character.highSurrogate(cp);
+                ca[dp++] = Character.lowSurrogate(cp);
+                sp += 4;
+            } else {
+                return null;
+            }
+        }
+        return new String(ca, 0, dp);
+    }
+
+    private static byte[] encodeFast(int cs, String str) {
+        if (cs == CS_OTHER) {
+            return null;
+        }
+        int len = str.length();
+        if (cs != CS_UTF_8) {
+            int max = cs == CS_ISO_8859_1 ? 0xff : 0x7f;
+            byte[] ba = new byte[len];
+            for (int i = 0; i < len; i++) {
+                char c = str.charAt(i);
+                if (c > max) {
+                    return null;
+                }
+                ba[i] = (byte)c;
+            }
+            return ba;
+        }
+        // compute the exact size first, so that we don't have to trim the result
+        int size = 0;
+        for (int i = 0; i < len; i++) {
+            char c = str.charAt(i);
+            if (c < 0x80) {
+                size++;
+            } else if (c < 0x800) {
+                size += 2;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(str.charAt(i + 1))) {
+                    size += 4;
+                    i++;
+                } else {
+                    return null;
+                }
+            } else {
+                size += 3;
+            }
+        }
+        byte[] ba = new byte[size];
+        int dp = 0;
+        for (int i = 0; i < len; i++) {
+            char c = str.charAt(i);
+            if (c < 0x80) {
+                ba[dp++] = (byte)c;
+            } else if (c < 0x800) {
+                ba[dp++] = (byte)(0xc0 | (c >> 6));
+                ba[dp++] = (byte)(0x80 | (c & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                int cp = Character.toCodePoint(c, str.charAt(++i));
+                ba[dp++] = (byte)(0xf0 | (cp >> 18));
+                ba[dp++] = (byte)(0x80 | ((cp >> 12) & 0x3f));
+                ba[dp++] = (byte)(0x80 | ((cp >> 6) & 0x3f));
+                ba[dp++] = (byte)(0x80 | (cp & 0x3f));
+            } else {
+                ba[dp++] = (byte)(0xe0 | (c >> 12));
+                ba[dp++] = (byte)(0x80 | ((c >> 6) & 0x3f));
+                ba[dp++] = (byte)(0x80 | (c & 0x3f));
+            }
+        }
+        return ba;
+    }
+
     /**
      * Constructs a new {@code String} by decoding the specified subarray of
      * bytes using the specified charset.  The length of the new {@code String}
@@ -320,6 +483,10 @@ final class StringHelper
         if (charsetName == null)
             throw new NullPointerException("charsetName");
         checkBounds(bytes, offset, length);
+        String str = decodeFast(getFastCharset(charsetName), bytes, offset, length);
+        if (str != null) {
+            return str;
+        }
         char[] v = StringCoding.decode(charsetName, bytes, offset, length);
         return new String(v);
     }
@@ -358,6 +525,10 @@ final class StringHelper
         if (charset == null)
             throw new NullPointerException("charset");
         checkBounds(bytes, offset, length);
+        String str = decodeFast(getFastCharset(charset.name()), bytes, offset, length);
+        if (str != null) {
+            return str;
+        }
         char[] v = StringCoding.decode(charset, bytes, offset, length);
         return new String(v);
     }
@@ -442,6 +613,10 @@ final class StringHelper
      */
     static String NewString(byte bytes[], int offset, int length) {
         checkBounds(bytes, offset, length);
+        String str = decodeFast(getFastCharset(Charset.defaultCharset().name()), bytes, offset, length);
+        if (str != null) {
+            return str;
+        }
         char[] v  = StringCoding.decode(bytes, offset, length);
         return new String(v);
     }
@@ -806,6 +981,10 @@ final class StringHelper
     static byte[] getBytes(String _this, String charsetName)
             throws UnsupportedEncodingException {
         if (charsetName == null) throw new NullPointerException();
+        byte[] ba = encodeFast(getFastCharset(charsetName), _this);
+        if (ba != null) {
+            return ba;
+        }
         char[] value = _this.toCharArray();
         return StringCoding.encode(charsetName, value, 0, value.length);
     }
@@ -830,6 +1009,10 @@ final class StringHelper
      */
     static byte[] getBytes(String _this, Charset charset) {
         if (charset == null) throw new NullPointerException();
+        byte[] ba = encodeFast(getFastCharset(charset.name()), _this);
+        if (ba != null) {
+            return ba;
+        }
         char[] value = _this.toCharArray();
         return StringCoding.encode(charset, value, 0, value.length);
     }
@@ -848,6 +1031,10 @@ final class StringHelper
      * @since      JDK1.1
      */
     static byte[] getBytes(String _this) {
+        byte[] ba = encodeFast(getFastCharset(Charset.defaultCharset().name()), _this);
+        if (ba != null) {
+            return ba;
+        }
         char[] value = _this.toCharArray();
         return StringCoding.encode(value, 0, value.length);
     }
@@ -1083,12 +1270,7 @@ final class StringHelper
             || (ooffset > (long)other.length() - len)) {
             return false;
         }
-        while (len-- > 0) {
-            if (_this.charAt(to++) != other.charAt(po++)) {
-                return false;
-            }
-        }
-        return true;
+        return len <= 0 || cli.System.String.CompareOrdinal(_this, to, other, po, len) == 0;
     }
 
     /**
@@ -1158,6 +1340,20 @@ final class StringHelper
                 continue;
             }
             if (ignoreCase) {
+                // [IKVM] fast path for ASCII, no other characters map to ASCII letters when both
+                // characters are ASCII, so this gives the same result as the code below
+                if ((c1 | c2) < 0x80) {
+                    if (c1 >= 'a' && c1 <= 'z') {
+                        c1 -= 0x20;
+                    }
+                    if (c2 >= 'a' && c2 <= 'z') {
+                        c2 -= 0x20;
+                    }
+                    if (c1 == c2) {
+                        continue;
+                    }
+                    return false;
+                }
                 // If characters don't match but case may be ignored,
                 // try converting both characters to uppercase.
                 // If the results match, then the comparison scan should
@@ -1195,9 +1391,21 @@ final class StringHelper
      */
     static int hashCode(cli.System.String _this) {
         int h = 0;
+        int i = 0;
+        // process four characters per iteration to shorten the multiply dependency chain,
+        // 923521, 29791, 961 and 31 are 31^4, 31^3, 31^2 and 31^1 so the result is identical to h = h * 31 + c
+        // (the JIT can't eliminate the bounds checks for i + 1..3 anyway, so there's no point in using get_Length here)
+        for (int last = _this.get_Length() - 3; i < last; i += 4)
+        {
+            h = h * 923521
+                + _this.get_Chars(i) * 29791
+                + _this.get_Chars(i + 1) * 961
+                + _this.get_Chars(i + 2) * 31
+                + _this.get_Chars(i + 3);
+        }
         // NOTE having the get_Length in the for condition is actually faster than hoisting it,
         // the CLR JIT recognizes this pattern and optimizes the array bounds check in get_Chars.
-        for (int i = 0; i < _this.get_Length(); i++)
+        for (; i < _this.get_Length(); i++)
         {
             h = h * 31 + _this.get_Chars(i);
         }
@@ -1281,16 +1489,10 @@ final class StringHelper
             return -1;
         }
 
-        int i = fromIndex;
         if (ch < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
             // handle most cases here (ch is a BMP code point or a
             // negative value (invalid code point))
-            for (; i < max ; i++) {
-                if (_this.get_Chars(i) == ch) {
-                    return i;
-                }
-            }
-            return -1;
+            return ch < 0 ? -1 : _this.IndexOf((char)ch, fromIndex);
         } else {
             return indexOfSupplementary(_this, ch, fromIndex);
         }
@@ -1379,12 +1581,7 @@ final class StringHelper
             // handle most cases here (ch is a BMP code point or a
             // negative value (invalid code point))
             int i = Math.min(fromIndex, _this.get_Length() - 1);
-            for (; i >= 0; i--) {
-                if (_this.get_Chars(i) == ch) {
-                    return i;
-                }
-            }
-            return -1;
+            return ch < 0 || i < 0 ? -1 : _this.LastIndexOf((char)ch, i);
         } else {
             return lastIndexOfSupplementary(_this, ch, fromIndex);
         }
@@ -1453,19 +1650,10 @@ final class StringHelper
         {
             return -1;
         }
-        char firstChar = str.charAt(0);
         // Java allows fromIndex to both below zero or above the length of the string, .NET doesn't
         int index = Math.max(0, Math.min(slen, fromIndex));
-        int end = slen - olen;
-        while (index >= 0 && index <= end)
-        {
-            if (cli.System.String.CompareOrdinal(_this, index, str, 0, olen) == 0)
-            {
-                return index;
-            }
-            index = _this.indexOf(firstChar, index + 1);
-        }
-        return -1;
+        cli.System.String cliStr = (cli.System.String)(Object)_this;
+        return cliStr.IndexOf(str, index, cli.System.StringComparison.wrap(cli.System.StringComparison.Ordinal));
     }
 
     /**
@@ -1848,27 +2036,9 @@ final class StringHelper
      *          occurrence of {@code oldChar} with {@code newChar}.
      */
     static String replace(String _this, char oldChar, char newChar) {
-        if (oldChar != newChar) {
-            int len = _this.length();
-            int i = -1;
-
-            while (++i < len) {
-                if (_this.charAt(i) == oldChar) {
-                    break;
-                }
-            }
-            if (i < len) {
-                char buf[] = new char[len];
-                for (int j = 0 ; j < i ; j++) {
-                    buf[j] = _this.charAt(j);
-                }
-                while (i < len) {
-                    char c = _this.charAt(i);
-                    buf[i] = (c == oldChar) ? newChar : c;
-                    i++;
-                }
-                return new String(buf, true);
-            }
+        // the explicit check is required, because the CLR doesn't specify that Replace returns the same instance
+        if (oldChar != newChar && _this.indexOf(oldChar) != -1) {
+            return ((cli.System.String)(Object)_this).Replace(oldChar, newChar);
         }
         return _this;
     }
@@ -1898,8 +2068,28 @@ final class StringHelper
      * @since 1.5
      */
     static String replace(String _this, CharSequence target, CharSequence replacement) {
-        return Pattern.compile(target.toString(), Pattern.LITERAL).matcher(
-            _this).replaceAll(Matcher.quoteReplacement(replacement.toString()));
+        String tgt = target.toString();
+        String repl = replacement.toString();
+        int len = _this.length();
+        if (tgt.length() == 0) {
+            // the CLR doesn't allow an empty target, Java inserts the replacement before, between and after all chars
+            char[] buf = new char[len + (len + 1) * repl.length()];
+            int pos = 0;
+            for (int i = 0; ; i++) {
+                repl.getChars(0, repl.length(), buf, pos);
+                pos += repl.length();
+                if (i == len) {
+                    break;
+                }
+                buf[pos++] = _this.charAt(i);
+            }
+            return new String(buf, true);
+        }
+        if (_this.indexOf(tgt) == -1) {
+            return _this;
+        }
+        // String.Replace uses an ordinal comparison and sizes the result exactly
+        return ((cli.System.String)(Object)_this).Replace(tgt, repl);
     }
 
     /**
@@ -2006,40 +2196,66 @@ final class StringHelper
             (ch < Character.MIN_HIGH_SURROGATE ||
              ch > Character.MAX_LOW_SURROGATE))
         {
-            int off = 0;
-            int next = 0;
-            boolean limited = limit > 0;
-            ArrayList<String> list = new ArrayList<>();
-            while ((next = _this.indexOf(ch, off)) != -1) {
-                if (!limited || list.size() < limit - 1) {
-                    list.add(_this.substring(off, next));
-                    off = next + 1;
-                } else {    // last one
-                    //assert (list.size() == limit - 1);
-                    list.add(_this.substring(off, _this.length()));
-                    off = _this.length();
-                    break;
-                }
+            return splitLiteral(_this, ch, null, limit);
+        }
+        // [IKVM] fastpath for a multi-char regex without meta characters (and surrogates, because
+        // the regex engine matches code points), like the ", " or "::" separators
+        if (isLiteralRegex(regex)) {
+            return splitLiteral(_this, '\0', regex, limit);
+        }
+        return Pattern.compile(regex).split(_this, limit);
+    }
+
+    private static boolean isLiteralRegex(String regex) {
+        int len = regex.length();
+        if (len < 2) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            char c = regex.charAt(i);
+            if (".$|()[{^?*+\\".indexOf(c) != -1 || Character.isSurrogate(c)) {
+                return false;
             }
-            // If no match was found, return this
-            if (off == 0)
-                return new String[]{_this};
-
-            // Add remaining segment
-            if (!limited || list.size() < limit)
-                list.add(_this.substring(off, _this.length()));
-
-            // Construct result
-            int resultSize = list.size();
-            if (limit == 0) {
-                while (resultSize > 0 && list.get(resultSize - 1).length() == 0) {
-                    resultSize--;
-                }
+        }
+        return true;
+    }
+
+    // splits on the separator char ch (if sep is null) or on the literal string sep
+    private static String[] splitLiteral(String _this, char ch, String sep, int limit) {
+        int sepLen = sep == null ? 1 : sep.length();
+        boolean limited = limit > 0;
+        // count the fields first, so that we can allocate the result array with the right size
+        int count = 1;
+        int off = 0;
+        int next;
+        while ((!limited || count < limit)
+                && (next = sep == null ? _this.indexOf(ch, off) : _this.indexOf(sep, off)) != -1) {
+            count++;
+            off = next + sepLen;
+        }
+        // If no match was found, return this
+        if (count == 1) {
+            return new String[]{_this};
+        }
+        String[] result = new String[count];
+        off = 0;
+        for (int i = 0; i < count - 1; i++) {
+            next = sep == null ? _this.indexOf(ch, off) : _this.indexOf(sep, off);
+            result[i] = _this.substring(off, next);
+            off = next + sepLen;
+        }
+        // Add remaining segment
+        result[count - 1] = _this.substring(off);
+        if (limit == 0) {
+            int resultSize = count;
+            while (resultSize > 0 && result[resultSize - 1].length() == 0) {
+                resultSize--;
+            }
+            if (resultSize != count) {
+                result = Arrays.copyOf(result, resultSize);
             }
-            String[] result = new String[resultSize];
-            return list.subList(0, resultSize).toArray(result);
         }
-        return Pattern.compile(regex).split(_this, limit);
+        return result;
     }
 
     /**
@@ -2070,12 +2286,12 @@ final class StringHelper
     public static String join(CharSequence delimiter, CharSequence... elements) {
         Objects.requireNonNull(delimiter);
         Objects.requireNonNull(elements);
-        // Number of elements not likely worth Arrays.stream overhead.
-        StringJoiner joiner = new StringJoiner(delimiter);
-        for (CharSequence cs: elements) {
-            joiner.add(cs);
+        // [IKVM] String.Join computes the length first and allocates the result only once
+        String[] strings = new String[elements.length];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = String.valueOf(elements[i]);
         }
-        return joiner.toString();
+        return cli.System.String.Join(delimiter.toString(), strings);
     }
 
     /**
@@ -2119,6 +2335,20 @@ final class StringHelper
             Iterable<? extends CharSequence> elements) {
         Objects.requireNonNull(delimiter);
         Objects.requireNonNull(elements);
+        if (elements instanceof java.util.Collection) {
+            // [IKVM] String.Join computes the length first and allocates the result only once
+            java.util.Collection<? extends CharSequence> coll = (java.util.Collection<? extends CharSequence>)elements;
+            String[] strings = new String[coll.size()];
+            int i = 0;
+            for (CharSequence cs: coll) {
+                if (i == strings.length) {
+                    // the collection grew while we were iterating
+                    strings = Arrays.copyOf(strings, i * 2 + 1);
+                }
+                strings[i++] = String.valueOf(cs);
+            }
+            return cli.System.String.Join(delimiter.toString(), strings, 0, i);
+        }
         StringJoiner joiner = new StringJoiner(delimiter);
         for (CharSequence cs: elements) {
             joiner.add(cs);
@@ -175,8 +175,9 @@ class Thread implements Runnable {
     private volatile boolean nativeInterruptPending;
     private volatile boolean interruptableWait;
     private boolean timedWait;
-    volatile Object parkLock;   // used by get/setParkLock in map.xml
+    volatile Object parkEvent;  // used by get/setParkEvent in map.xml (a ManualResetEventSlim)
     int parkState;              // used by cmpxchgParkState in map.xml
+    volatile Object waitObject; // the object passed to Object.wait(), reported by sun.management.ThreadImpl
     /* --- end IKVM specific state --- */
 
     private volatile char  name[];
@@ -911,6 +912,17 @@ class Thread implements Runnable {
     }
 
     private void start0() {
+        if (stackSize <= 0 && isCarrierPooled(group)) {
+            Carrier carrier = Carrier.acquire();
+            nativeThread = carrier.clrThread;
+            threadStatus = 0x0005; // JVMTI_THREAD_STATE_ALIVE + JVMTI_THREAD_STATE_RUNNABLE
+            if (!daemon) {
+                // we increment the count before the carrier starts running us, because die() may otherwise decrement it first
+                cli.System.Threading.Interlocked.Increment(nonDaemonCount);
+            }
+            carrier.run(this);
+            return;
+        }
         cli.System.Threading.ThreadStart threadStart = new cli.System.Threading.ThreadStart(new cli.System.Threading.ThreadStart.Method() {
             @cli.IKVM.Attributes.HideFromJavaAttribute.Annotation
             public void Invoke() {
@@ -941,6 +953,136 @@ class Thread implements Runnable {
         }
     }
 
+    // [IKVM] map of ThreadGroup to Boolean, a group inherits the setting of its closest configured ancestor
+    private static final java.util.WeakHashMap<ThreadGroup, Boolean> carrierPooledGroups = new java.util.WeakHashMap<ThreadGroup, Boolean>();
+
+    // [IKVM] used by ikvm.runtime.Util.setThreadPooling()
+    @ikvm.lang.Internal
+    public static void setCarrierPooled(ThreadGroup group, boolean pooled) {
+        synchronized (carrierPooledGroups) {
+            carrierPooledGroups.put(group, Boolean.valueOf(pooled));
+        }
+    }
+
+    private static boolean isCarrierPooled(ThreadGroup group) {
+        // threads that need a specific apartment state require a fresh CLR thread
+        if (!"".equals(Props.props.getProperty("ikvm.apartmentstate", ""))) {
+            return false;
+        }
+        synchronized (carrierPooledGroups) {
+            if (!carrierPooledGroups.isEmpty()) {
+                for (ThreadGroup g = group; g != null; g = g.parent) {
+                    Boolean pooled = carrierPooledGroups.get(g);
+                    if (pooled != null) {
+                        return pooled.booleanValue();
+                    }
+                }
+            }
+        }
+        // NOTE pooling is only transparent to threads that don't change CLR thread state that the Carrier can't reset,
+        // a thread that calls setName() (the CLR thread name can only be set once) or that exits while it still owns
+        // monitors entered through JNI MonitorEnter doesn't return its carrier to the pool, but any other CLR state
+        // (e.g. [ThreadStatic] fields or the ExecutionContext of .NET code called by the thread) leaks into the next thread
+        return "true".equalsIgnoreCase(Props.props.getProperty("ikvm.thread.pool", ""));
+    }
+
+    // [IKVM] A Carrier is a CLR thread that runs a sequence of short-lived Java threads. Between two
+    // Java threads the carrier resets the CLR thread state that is visible to Java code (the current
+    // thread, intrinsified ThreadLocals, priority, background flag, culture, principal, JNIEnv and any
+    // pending CLR interrupt) and then waits in the idle list until it is reused or the idle timeout expires.
+    // When the state can't be reset (see isCarrierPooled()), the carrier isn't reused.
+    private static final class Carrier implements cli.System.Threading.ThreadStart.Method {
+        private static final int MAX_IDLE_CARRIERS = 256;
+        private static final int IDLE_TIMEOUT_MILLIS = 60 * 1000;
+        private static final java.util.ArrayDeque<Carrier> idle = new java.util.ArrayDeque<Carrier>();
+        private final cli.System.Threading.ManualResetEventSlim event = new cli.System.Threading.ManualResetEventSlim(false);
+        final cli.System.Threading.Thread clrThread;
+        private boolean started;
+        private volatile Thread task;
+        private cli.System.Globalization.CultureInfo culture;
+        private cli.System.Globalization.CultureInfo uiCulture;
+
+        private Carrier() {
+            clrThread = new cli.System.Threading.Thread(new cli.System.Threading.ThreadStart(this));
+            clrThread.set_IsBackground(true);
+        }
+
+        static Carrier acquire() {
+            Carrier carrier;
+            synchronized (idle) {
+                carrier = idle.pollFirst();
+            }
+            return carrier != null ? carrier : new Carrier();
+        }
+
+        void run(Thread thread) {
+            clrThread.set_IsBackground(thread.daemon);
+            clrThread.set_Priority(cli.System.Threading.ThreadPriority.wrap(mapJavaPriorityToClr(thread.priority)));
+            task = thread;
+            if (started) {
+                event.Set();
+            } else {
+                started = true;
+                clrThread.Start();
+            }
+        }
+
+        @cli.IKVM.Attributes.HideFromJavaAttribute.Annotation
+        public void Invoke() {
+            culture = clrThread.get_CurrentCulture();
+            uiCulture = clrThread.get_CurrentUICulture();
+            for (;;) {
+                Thread thread = task;
+                task = null;
+                thread.threadProc();
+                // NOTE if the Java thread was stopped, the ThreadAbortException propagates and the carrier dies with it
+                if (!reset()) {
+                    return;
+                }
+                event.Reset();
+                synchronized (idle) {
+                    if (idle.size() >= MAX_IDLE_CARRIERS) {
+                        return;
+                    }
+                    idle.addFirst(this);
+                }
+                if (!event.Wait(IDLE_TIMEOUT_MILLIS)) {
+                    synchronized (idle) {
+                        if (idle.remove(this)) {
+                            return;
+                        }
+                    }
+                    // we were acquired after the timeout expired, so the event will be set shortly
+                    event.Wait();
+                }
+            }
+        }
+
+        private boolean reset() {
+            // the CLR thread name can only be set once
+            if (clrThread.get_Name() != null || !releaseCarrierJniEnv()) {
+                return false;
+            }
+            ikvm.internal.IntrinsicThreadLocal.clearAll();
+            try {
+                if (false) throw new cli.System.Threading.ThreadInterruptedException();
+                // consume a CLR interrupt that arrived after the Java thread had stopped looking for it
+                cli.System.Threading.Thread.Sleep(0);
+            } catch (cli.System.Threading.ThreadInterruptedException _) {
+            }
+            clrThread.set_Priority(cli.System.Threading.ThreadPriority.wrap(cli.System.Threading.ThreadPriority.Normal));
+            clrThread.set_IsBackground(true);
+            clrThread.set_CurrentCulture(culture);
+            clrThread.set_CurrentUICulture(uiCulture);
+            // a null principal makes the next get_CurrentPrincipal() return the AppDomain's default again
+            cli.System.Threading.Thread.set_CurrentPrincipal(null);
+            return true;
+        }
+    }
+
+    // [IKVM] frees the carrier's JNIEnv, returns false if the thread still owns monitors entered through JNI MonitorEnter
+    private static native boolean releaseCarrierJniEnv();
+
     /**
      * If this thread was constructed using a separate
      * <code>Runnable</code> run object, then that
@@ -1778,18 +1920,11 @@ class Thread implements Runnable {
         if (obj == null) {
             throw new NullPointerException();
         }
-        try {
-            if (false) throw new cli.System.Threading.SynchronizationLockException();
-            // The 1.5 memory model (JSR133) explicitly allows spurious wake-ups from Object.wait,
-            // so we abuse Pulse to check if we own the monitor.
-            cli.System.Threading.Monitor.Pulse(obj);
-            return true;
-        }
-        catch (cli.System.Threading.SynchronizationLockException _) {
-            return false;
-        }
+        return holdsLock0(obj);
     }
 
+    private static native boolean holdsLock0(Object obj);
+
     private static final StackTraceElement[] EMPTY_STACK_TRACE
         = new StackTraceElement[0];
 
@@ -1989,6 +2124,9 @@ class Thread implements Runnable {
     }
 
     private static StackTraceElement[][] dumpThreads(Thread[] threads) {
+        // a single thread is cheap enough to also get the debug symbol (.pdb) based file info, for multiple
+        // threads we only use the line number information in our own metadata to keep the suspensions short
+        boolean needFileInfo = threads.length == 1;
         StackTraceElement[][] stacks = new StackTraceElement[threads.length][];
         for (int i = 0; i < threads.length; i++) {
             cli.System.Threading.Thread nativeThread = threads[i].nativeThread;
@@ -2004,7 +2142,7 @@ class Thread implements Runnable {
                     }
                     cli.System.Diagnostics.StackTrace stack;
                     try {
-                        stack = new cli.System.Diagnostics.StackTrace(nativeThread, true);
+                        stack = new cli.System.Diagnostics.StackTrace(nativeThread, needFileInfo);
                     }
                     finally {
                         if (suspended) {
@@ -2383,7 +2521,8 @@ class Thread implements Runnable {
 
     /** The current seed for a ThreadLocalRandom */
     @sun.misc.Contended("tlr")
-    long threadLocalRandomSeed;
+    @ikvm.lang.Internal // [IKVM] accessed from java.util.concurrent.ThreadLocalRandomHelper
+    public long threadLocalRandomSeed;
 
     /** Probe hash value; nonzero if threadLocalRandomSeed initialized */
     @sun.misc.Contended("tlr")
@@ -2492,6 +2631,12 @@ class Thread implements Runnable {
                     nativeInterruptPending = true;
                     nativeThread.Interrupt();
                 }
+                // interrupting a thread also unparks it (LockSupport.park rechecks the interrupt status
+                // after it publishes the parked state, so signaling the event after setting the flag is sufficient)
+                Object ev = parkEvent;
+                if (ev != null) {
+                    ((cli.System.Threading.ManualResetEventSlim)ev).Set();
+                }
             }
         }
     }
@@ -2565,6 +2710,7 @@ class Thread implements Runnable {
         }
         Thread t = currentThread();
         t.enterInterruptableWait(timeout != 0);
+        t.waitObject = o;
         try {
             if (false) throw new cli.System.Threading.ThreadInterruptedException();
             if (timeout == 0 || timeout > 922337203685476L) {
@@ -2581,6 +2727,7 @@ class Thread implements Runnable {
         catch (cli.System.Threading.ThreadInterruptedException _) {
         }
         finally {
+            t.waitObject = null;
             t.leaveInterruptableWait();
         }
     }
@@ -0,0 +1,87 @@
+/*
+  Copyright (C) 2016 Jeroen Frijters
+
+  This software is provided 'as-is', without any express or implied
+  warranty.  In no event will the authors be held liable for any damages
+  arising from the use of this software.
+
+  Permission is granted to anyone to use this software for any purpose,
+  including commercial applications, and to alter it and redistribute it
+  freely, subject to the following restrictions:
+
+  1. The origin of this software must not be misrepresented; you must not
+     claim that you wrote the original software. If you use this software
+     in a product, an acknowledgment in the product documentation would be
+     appreciated but is not required.
+  2. Altered source versions must be plainly marked as such, and must not be
+     misrepresented as being the original software.
+  3. This notice may not be removed or altered from any source distribution.
+
+  Jeroen Frijters
+  jeroen@frijters.net
+  
+*/
+
+package java.util.concurrent;
+
+// ThreadLocalRandom accesses the per-thread seed and probe fields of java.lang.Thread
+// via Unsafe, which is very slow on IKVM (every access looks up the field under a lock
+// and uses reflection). The methods below replace (in map.xml) the ThreadLocalRandom
+// methods that do this, by accessing the fields directly.
+final class ThreadLocalRandomHelper
+{
+    private static final long GAMMA = 0x9e3779b97f4a7c15L;
+
+    private ThreadLocalRandomHelper() { }
+
+    static ThreadLocalRandom current()
+    {
+        if (Thread.currentThread().threadLocalRandomProbe == 0)
+        {
+            ThreadLocalRandom.localInit();
+        }
+        return ThreadLocalRandom.instance;
+    }
+
+    static long nextSeed()
+    {
+        Thread t = Thread.currentThread();
+        return t.threadLocalRandomSeed += GAMMA;
+    }
+
+    static int getProbe()
+    {
+        return Thread.currentThread().threadLocalRandomProbe;
+    }
+
+    static int advanceProbe(int probe)
+    {
+        probe ^= probe << 13;   // xorshift
+        probe ^= probe >>> 17;
+        probe ^= probe << 5;
+        Thread.currentThread().threadLocalRandomProbe = probe;
+        return probe;
+    }
+
+    static int nextSecondarySeed()
+    {
+        int r;
+        Thread t = Thread.currentThread();
+        if ((r = t.threadLocalRandomSecondarySeed) != 0)
+        {
+            r ^= r << 13;   // xorshift
+            r ^= r >>> 17;
+            r ^= r << 5;
+        }
+        else
+        {
+            ThreadLocalRandom.localInit();
+            if ((r = (int)t.threadLocalRandomSeed) == 0)
+            {
+                r = 1; // avoid zero
+            }
+        }
+        t.threadLocalRandomSecondarySeed = r;
+        return r;
+    }
+}
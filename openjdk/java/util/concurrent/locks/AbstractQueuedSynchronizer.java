@@ -825,6 +825,48 @@ public abstract class AbstractQueuedSynchronizer
         Thread.currentThread().interrupt();
     }
 
+    /**
+     * IKVM specific. A park/unpark round trip is much more expensive on the CLR
+     * than on HotSpot, so in the exclusive acquire paths a thread that is first
+     * in the queue spins briefly (retrying tryAcquire) once, before it parks for
+     * the first time. Shared acquires don't spin, because latches, semaphores
+     * and the like are typically not released within microseconds.
+     * Spinning is disabled on single processor machines and can be disabled
+     * by setting the ikvm.aqs.spin system property to false.
+     */
+    private static final class Spin {
+        static final int SPINS;
+
+        static {
+            String prop = java.security.AccessController.doPrivileged(
+                new sun.security.action.GetPropertyAction("ikvm.aqs.spin", "true"));
+            SPINS = Runtime.getRuntime().availableProcessors() > 1 && !"false".equalsIgnoreCase(prop) ? 64 : 0;
+        }
+    }
+
+    /**
+     * IKVM specific. Spins retrying tryAcquire, if the node is first in the
+     * queue. Called once, before the caller parks for the first time. Gives up
+     * early when the thread is interrupted or (if timed) the deadline has
+     * passed, so that the caller can respond to that.
+     *
+     * @return {@code true} if acquired
+     */
+    private boolean spinAcquire(Node node, int arg, boolean timed, long deadline) {
+        if (Spin.SPINS == 0 || node.predecessor() != head)
+            return false;
+        Thread current = Thread.currentThread();
+        for (int i = Spin.SPINS; i > 0; i--) {
+            if (tryAcquire(arg))
+                return true;
+            cli.System.Threading.Thread.SpinWait(20);
+            if (current.isInterrupted() ||
+                (timed && deadline - System.nanoTime() <= 0L))
+                break;
+        }
+        return false;
+    }
+
     /**
      * Convenience method to park and then check if interrupted
      *
@@ -856,9 +898,10 @@ public abstract class AbstractQueuedSynchronizer
         boolean failed = true;
         try {
             boolean interrupted = false;
+            boolean acquired = spinAcquire(node, arg, false, 0L);
             for (;;) {
                 final Node p = node.predecessor();
-                if (p == head && tryAcquire(arg)) {
+                if (p == head && (acquired || tryAcquire(arg))) {
                     setHead(node);
                     p.next = null; // help GC
                     failed = false;
@@ -883,9 +926,10 @@ public abstract class AbstractQueuedSynchronizer
         final Node node = addWaiter(Node.EXCLUSIVE);
         boolean failed = true;
         try {
+            boolean acquired = spinAcquire(node, arg, false, 0L);
             for (;;) {
                 final Node p = node.predecessor();
-                if (p == head && tryAcquire(arg)) {
+                if (p == head && (acquired || tryAcquire(arg))) {
                     setHead(node);
                     p.next = null; // help GC
                     failed = false;
@@ -916,9 +960,10 @@ public abstract class AbstractQueuedSynchronizer
         final Node node = addWaiter(Node.EXCLUSIVE);
         boolean failed = true;
         try {
+            boolean acquired = spinAcquire(node, arg, true, deadline);
             for (;;) {
                 final Node p = node.predecessor();
-                if (p == head && tryAcquire(arg)) {
+                if (p == head && (acquired || tryAcquire(arg))) {
                     setHead(node);
                     p.next = null; // help GC
                     failed = false;
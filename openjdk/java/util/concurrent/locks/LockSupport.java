@@ -129,8 +129,8 @@ public class LockSupport {
 
     // these native methods are all implemented in map.xml
     private static native int cmpxchgParkState(Thread t, int newValue, int comparand);
-    private static native Object getParkLock(Thread t);
-    private static native void setParkLock(Thread t, Object obj);
+    private static native Object getParkEvent(Thread t);
+    private static native void setParkEvent(Thread t, Object obj);
 
     /**
      * Makes available the permit for the given thread, if it
@@ -146,16 +146,20 @@ public class LockSupport {
     public static void unpark(Thread thread) {
         if (thread != null)
         {
-            if (cmpxchgParkState(thread, PARK_STATE_PERMIT, PARK_STATE_RUNNING) == PARK_STATE_PARKED)
+            for (;;)
             {
+                switch (cmpxchgParkState(thread, PARK_STATE_PERMIT, PARK_STATE_RUNNING))
+                {
+                    case PARK_STATE_RUNNING:
+                    case PARK_STATE_PERMIT:
+                        // we made the permit available (or it already was)
+                        return;
+                }
+                // the thread is parked, we hand it the permit by releasing it
                 if (cmpxchgParkState(thread, PARK_STATE_RUNNING, PARK_STATE_PARKED) == PARK_STATE_PARKED)
                 {
-                    // thread is currently blocking, so we have to release it
-                    Object lock = getParkLock(thread);
-                    synchronized (lock)
-                    {
-                        lock.notify();
-                    }
+                    ((cli.System.Threading.ManualResetEventSlim)getParkEvent(thread)).Set();
+                    return;
                 }
             }
         }
@@ -168,40 +172,61 @@ public class LockSupport {
             // we consumed a permit
             return;
         }
-
-        Object lock = getParkLock(currentThread);
-        if (lock == null)
-        {
-            // we lazily allocate the lock object
-            lock = new Object();
-            setParkLock(currentThread, lock);
-        }
-        synchronized (lock)
+        if (deadline)
         {
-            if (cmpxchgParkState(currentThread, PARK_STATE_PARKED, PARK_STATE_RUNNING) == PARK_STATE_PERMIT)
+            nanos -= System.currentTimeMillis() * 1000000;
+            if (nanos <= 0)
             {
-                // entering the parked state failed because we got a permit after the previous permit test
-                // release the permit and return
-                cmpxchgParkState(currentThread, PARK_STATE_RUNNING, PARK_STATE_PERMIT);
                 return;
             }
-            if (deadline)
-            {
-                nanos -= System.currentTimeMillis() * 1000000;
-            }
-            if (nanos >= 0)
+        }
+        if (currentThread.isInterrupted())
+        {
+            return;
+        }
+
+        cli.System.Threading.ManualResetEventSlim parkEvent = (cli.System.Threading.ManualResetEventSlim)getParkEvent(currentThread);
+        if (parkEvent == null)
+        {
+            // we lazily allocate the event, only the thread itself ever does this
+            parkEvent = new cli.System.Threading.ManualResetEventSlim();
+            setParkEvent(currentThread, parkEvent);
+        }
+        // a Set() left over from a previous park is harmless (it results in a spurious wakeup),
+        // but we must reset before we publish the parked state, because unpark only signals after seeing it
+        parkEvent.Reset();
+        if (cmpxchgParkState(currentThread, PARK_STATE_PARKED, PARK_STATE_RUNNING) == PARK_STATE_PERMIT)
+        {
+            // entering the parked state failed because we got a permit after the previous permit test,
+            // consume the permit and return
+            cmpxchgParkState(currentThread, PARK_STATE_RUNNING, PARK_STATE_PERMIT);
+            return;
+        }
+        // Thread.interrupt() sets the interrupt status before it signals the event,
+        // so we have to recheck here to make sure we can't miss an interrupt
+        if (!currentThread.isInterrupted())
+        {
+            try
             {
-                try
+                if (false) throw new cli.System.Threading.ThreadInterruptedException();
+                // ManualResetEventSlim spins for a while before it blocks
+                if (nanos == 0)
                 {
-                    lock.wait(nanos / 1000000, (int)(nanos % 1000000));
+                    parkEvent.Wait();
                 }
-                catch (InterruptedException _)
+                else
                 {
-                    currentThread.interrupt();
+                    long millis = (nanos + 999999) / 1000000;
+                    parkEvent.Wait((int)Math.min(millis, Integer.MAX_VALUE));
                 }
             }
-            cmpxchgParkState(currentThread, PARK_STATE_RUNNING, PARK_STATE_PARKED);
+            catch (cli.System.Threading.ThreadInterruptedException _)
+            {
+                currentThread.interrupt();
+            }
         }
+        // if we were unparked, the state has already been set to running
+        cmpxchgParkState(currentThread, PARK_STATE_RUNNING, PARK_STATE_PARKED);
     }
 
     /**
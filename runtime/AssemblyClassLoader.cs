@@ -54,6 +54,12 @@ namespace IKVM.Internal
 		private string[] exportedAssemblyNames;
 		private AssemblyLoader[] exportedAssemblies;
 		private Dictionary<Assembly, AssemblyLoader> exportedLoaders;
+		private const int MaxMisses = 1024;
+		private readonly Dictionary<string, string> misses = new Dictionary<string, string>();
+		private int missCacheHits;
+		private int missesGeneration;
+		// incremented whenever a delegate is added to any class loader, because that can turn a miss into a hit
+		private static int delegatesGeneration;
 
 		private sealed class AssemblyLoader
 		{
@@ -695,9 +701,7 @@ namespace IKVM.Internal
 				return base.LoadClassImpl(name, mode);
 			}
 #endif
-			return LoadBootstrapIfNonJavaAssembly(name)
-				?? LoadDynamic(name)
-				?? FindOrLoadGenericClass(name, LoadMode.LoadOrNull);
+			return LoadNotLoadedClass(name);
 		}
 
 		// this implements ikvm.runtime.AssemblyClassLoader.loadClass(),
@@ -706,9 +710,71 @@ namespace IKVM.Internal
 		internal TypeWrapper LoadClass(string name)
 		{
 			return FindLoadedClass(name)
-				?? LoadBootstrapIfNonJavaAssembly(name)
+				?? LoadNotLoadedClass(name);
+		}
+
+		private TypeWrapper LoadNotLoadedClass(string name)
+		{
+			// Frameworks tend to probe for the same optional classes over and over again and a miss has to walk
+			// the bootstrap class loader, the delegates' resources and the generic class machinery, so we remember
+			// misses. For an assembly with Java modules a class that is subsequently defined is found by FindLoadedClass,
+			// so the outcome of these lookups only changes when a delegate is added (e.g. by Startup.addBootClassPathAssembly())
+			// and then we forget the misses. Generic type instances may depend on assemblies that fail to load now,
+			// so we don't cache those.
+			bool cacheable = assemblyLoader.HasJavaModule && name.IndexOf("_$$$_", StringComparison.Ordinal) == -1;
+			int gen = Thread.VolatileRead(ref delegatesGeneration);
+			if (cacheable && IsCachedMiss(name, gen))
+			{
+				return null;
+			}
+			TypeWrapper tw = LoadBootstrapIfNonJavaAssembly(name)
 				?? LoadDynamic(name)
 				?? FindOrLoadGenericClass(name, LoadMode.LoadOrNull);
+			if (tw == null && cacheable)
+			{
+				AddCachedMiss(name, gen);
+			}
+			return tw;
+		}
+
+		private bool IsCachedMiss(string name, int gen)
+		{
+			lock (misses)
+			{
+				if (missesGeneration != gen)
+				{
+					misses.Clear();
+					missCacheHits = 0;
+					missesGeneration = gen;
+				}
+				if (misses.ContainsKey(name))
+				{
+					missCacheHits++;
+					Profiler.Count("AssemblyClassLoader.MissCache.Hit");
+					return true;
+				}
+			}
+			Profiler.Count("AssemblyClassLoader.MissCache.Miss");
+			return false;
+		}
+
+		private void AddCachedMiss(string name, int gen)
+		{
+			lock (misses)
+			{
+				// we can only record the miss if no delegate was added while we were searching
+				if (gen != missesGeneration || gen != Thread.VolatileRead(ref delegatesGeneration))
+				{
+					return;
+				}
+				if (misses.Count == MaxMisses)
+				{
+					Tracer.Info(Tracer.ClassLoading, "Clearing negative lookup cache of {0} ({1} entries, {2} hits)", assemblyLoader.Assembly.FullName, misses.Count, missCacheHits);
+					misses.Clear();
+					missCacheHits = 0;
+				}
+				misses[name] = name;
+			}
 		}
 
 		private TypeWrapper LoadBootstrapIfNonJavaAssembly(string name)
@@ -1113,6 +1179,7 @@ namespace IKVM.Internal
 			{
 				delegates = ArrayUtil.Concat(delegates, acl);
 			}
+			Interlocked.Increment(ref delegatesGeneration);
 		}
 
 #if !STATIC_COMPILER && !STUB_GENERATOR
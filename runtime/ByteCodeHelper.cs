@@ -521,6 +521,17 @@ namespace IKVM.Runtime
 			return 0;
 		}
 
+		// java.lang.Math.pow, System.Math.Pow follows C99 which returns 1.0 instead of NaN for these cases
+		[DebuggerStepThroughAttribute]
+		public static double pow(double x, double y)
+		{
+			if (Double.IsNaN(y) || (Double.IsInfinity(y) && Math.Abs(x) == 1.0))
+			{
+				return Double.NaN;
+			}
+			return Math.Pow(x, y);
+		}
+
 		[DebuggerStepThroughAttribute]
 		public static int d2i(double d)
 		{
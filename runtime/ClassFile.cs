@@ -68,6 +68,7 @@ namespace IKVM.Internal
 		private const ushort FLAG_LAMBDAFORM_COMPILED = 0x800;
 		private const ushort FLAG_LAMBDAFORM_HIDDEN = 0x1000;
 		private const ushort FLAG_FORCEINLINE = 0x2000;
+		private const ushort FLAG_CONTENDED = 0x4000;
 		private ConstantPoolItemClass[] interfaces;
 		private Field[] fields;
 		private Method[] methods;
@@ -321,7 +322,7 @@ namespace IKVM.Internal
 				fields = new Field[fields_count];
 				for(int i = 0; i < fields_count; i++)
 				{
-					fields[i] = new Field(this, utf8_cp, br);
+					fields[i] = new Field(this, utf8_cp, options, br);
 					string name = fields[i].Name;
 					if(!IsValidFieldName(name, majorVersion))
 					{
@@ -462,6 +463,16 @@ namespace IKVM.Internal
 								goto default;
 							}
 							annotations = ReadAnnotations(br, this, utf8_cp);
+							if((options & ClassFileParseOptions.TrustedAnnotations) != 0)
+							{
+								foreach(object[] annot in annotations)
+								{
+									if(annot[1].Equals("Lsun/misc/Contended;"))
+									{
+										flags |= FLAG_CONTENDED;
+									}
+								}
+							}
 							break;
 #if STATIC_COMPILER
 						case "RuntimeInvisibleAnnotations":
@@ -1322,6 +1333,14 @@ namespace IKVM.Internal
 			}
 		}
 
+		internal bool IsContended
+		{
+			get
+			{
+				return (flags & FLAG_CONTENDED) != 0;
+			}
+		}
+
 		// for use by ikvmc (to implement the -privatepackage option)
 		internal void SetInternal()
 		{
@@ -2536,8 +2555,9 @@ namespace IKVM.Internal
 		{
 			private object constantValue;
 			private string[] propertyGetterSetter;
+			private string contendedGroup;
 
-			internal Field(ClassFile classFile, string[] utf8_cp, BigEndianBinaryReader br) : base(classFile, utf8_cp, br)
+			internal Field(ClassFile classFile, string[] utf8_cp, ClassFileParseOptions options, BigEndianBinaryReader br) : base(classFile, utf8_cp, br)
 			{
 				if((IsPrivate && IsPublic) || (IsPrivate && IsProtected) || (IsPublic && IsProtected)
 					|| (IsFinal && IsVolatile)
@@ -2634,6 +2654,16 @@ namespace IKVM.Internal
 								goto default;
 							}
 							annotations = ReadAnnotations(br, classFile, utf8_cp);
+							if((options & ClassFileParseOptions.TrustedAnnotations) != 0)
+							{
+								foreach(object[] annot in annotations)
+								{
+									if(annot[1].Equals("Lsun/misc/Contended;"))
+									{
+										DecodeContendedAnnotation(annot);
+									}
+								}
+							}
 							break;
 						case "RuntimeInvisibleAnnotations":
 							if(classFile.MajorVersion < 49)
@@ -2708,6 +2738,20 @@ namespace IKVM.Internal
 				}
 			}
 
+			private void DecodeContendedAnnotation(object[] annot)
+			{
+				// the default (empty) group means that the field is isolated on its own,
+				// fields that share a named contention group are laid out together
+				contendedGroup = "";
+				for(int i = 2; i < annot.Length - 1; i += 2)
+				{
+					if(annot[i].Equals("value") && annot[i + 1] is string)
+					{
+						contendedGroup = (string)annot[i + 1];
+					}
+				}
+			}
+
 			protected override void ValidateSig(ClassFile classFile, string descriptor)
 			{
 				if(!IsValidFieldSig(descriptor))
@@ -2729,6 +2773,17 @@ namespace IKVM.Internal
 				get { return (access_flags & (Modifiers.Final | Modifiers.Static)) == (Modifiers.Final | Modifiers.Static) && constantValue != null; }
 			}
 
+			internal bool IsContended
+			{
+				get { return contendedGroup != null; }
+			}
+
+			// returns the empty string for fields that are contended on their own
+			internal string ContendedGroup
+			{
+				get { return contendedGroup; }
+			}
+
 			internal bool IsProperty
 			{
 				get
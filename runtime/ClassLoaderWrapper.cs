@@ -33,6 +33,7 @@ using System.Reflection.Emit;
 using ProtectionDomain = java.security.ProtectionDomain;
 #endif
 using System.IO;
+using System.Collections;
 using System.Collections.Generic;
 using System.Diagnostics;
 using System.Threading;
@@ -85,7 +86,7 @@ namespace IKVM.Internal
 	abstract class TypeWrapperFactory
 	{
 		internal abstract ModuleBuilder ModuleBuilder { get; }
-		internal abstract TypeWrapper DefineClassImpl(Dictionary<string, TypeWrapper> types, TypeWrapper host, ClassFile f, ClassLoaderWrapper classLoader, ProtectionDomain protectionDomain);
+		internal abstract TypeWrapper DefineClassImpl(Hashtable types, TypeWrapper host, ClassFile f, ClassLoaderWrapper classLoader, ProtectionDomain protectionDomain);
 		internal abstract bool ReserveName(string name);
 		internal abstract string AllocMangledName(DynamicTypeWrapper tw);
 		internal abstract Type DefineUnloadable(string name);
@@ -100,7 +101,9 @@ namespace IKVM.Internal
 	class ClassLoaderWrapper
 	{
 		private static readonly object wrapperLock = new object();
-		private static readonly Dictionary<Type, TypeWrapper> globalTypeToTypeWrapper = new Dictionary<Type, TypeWrapper>();
+		// Type -> TypeWrapper, this is a Hashtable (instead of a Dictionary) because that supports multiple
+		// readers concurrently with a single writer, so lookups don't need to lock (but updates do)
+		private static readonly Hashtable globalTypeToTypeWrapper = new Hashtable();
 #if STATIC_COMPILER || STUB_GENERATOR
 		private static ClassLoaderWrapper bootstrapClassLoader;
 #else
@@ -113,12 +116,14 @@ namespace IKVM.Internal
 #if !STUB_GENERATOR
 		private TypeWrapperFactory factory;
 #endif // !STUB_GENERATOR
-		private readonly Dictionary<string, TypeWrapper> types = new Dictionary<string, TypeWrapper>();
+		// name -> TypeWrapper (or null while a DefineClass is in progress), updates must lock types,
+		// but lookups of loaded classes don't have to (for the same reason as globalTypeToTypeWrapper)
+		private readonly Hashtable types = new Hashtable();
 		private readonly Dictionary<string, Thread> defineClassInProgress = new Dictionary<string, Thread>();
 		private List<IntPtr> nativeLibraries;
 		private readonly CodeGenOptions codegenoptions;
 #if CLASSGC
-		private Dictionary<Type, TypeWrapper> typeToTypeWrapper;
+		private Hashtable typeToTypeWrapper;
 		private static ConditionalWeakTable<Assembly, ClassLoaderWrapper> dynamicAssemblies;
 #endif
 		private static readonly Dictionary<Type, string> remappedTypes = new Dictionary<Type, string>();
@@ -209,11 +214,7 @@ namespace IKVM.Internal
 			{
 				return FindOrLoadArrayClass(name, LoadMode.Find);
 			}
-			TypeWrapper tw;
-			lock (types)
-			{
-				types.TryGetValue(name, out tw);
-			}
+			TypeWrapper tw = (TypeWrapper)types[name];
 			return tw ?? FindLoadedClassLazy(name);
 		}
 
@@ -241,10 +242,14 @@ namespace IKVM.Internal
 
 		private TypeWrapper RegisterInitiatingLoaderCritical(TypeWrapper tw)
 		{
+			if(types[tw.Name] == tw)
+			{
+				// fast path, the class is already registered
+				return tw;
+			}
 			lock(types)
 			{
-				TypeWrapper existing;
-				types.TryGetValue(tw.Name, out existing);
+				TypeWrapper existing = (TypeWrapper)types[tw.Name];
 				if(existing != tw)
 				{
 					if(existing != null)
@@ -483,7 +488,7 @@ namespace IKVM.Internal
 							{
 								Interlocked.CompareExchange(ref dynamicAssemblies, new ConditionalWeakTable<Assembly, ClassLoaderWrapper>(), null);
 							}
-							typeToTypeWrapper = new Dictionary<Type, TypeWrapper>();
+							typeToTypeWrapper = new Hashtable();
 							DynamicClassLoader instance = DynamicClassLoader.Get(this);
 							dynamicAssemblies.Add(instance.ModuleBuilder.Assembly.ManifestModule.Assembly, this);
 							this.factory = instance;
@@ -561,10 +566,16 @@ namespace IKVM.Internal
 
 		private TypeWrapper LoadRegisteredOrPendingClass(string name)
 		{
-			TypeWrapper tw;
+			TypeWrapper tw = (TypeWrapper)types[name];
+			if (tw != null)
+			{
+				// the class is already loaded, no need to lock
+				return tw;
+			}
 			lock (types)
 			{
-				if (types.TryGetValue(name, out tw) && tw == null)
+				tw = (TypeWrapper)types[name];
+				if (tw == null && types.ContainsKey(name))
 				{
 					Thread defineThread;
 					if (defineClassInProgress.TryGetValue(name, out defineThread))
@@ -579,8 +590,8 @@ namespace IKVM.Internal
 						{
 							Monitor.Wait(types);
 						}
-						// the defineClass may have failed, so we need to use TryGetValue
-						types.TryGetValue(name, out tw);
+						// the defineClass may have failed, so the entry may have been removed
+						tw = (TypeWrapper)types[name];
 					}
 				}
 			}
@@ -1088,11 +1099,7 @@ namespace IKVM.Internal
 #endif
 			Debug.Assert(!type.IsPointer);
 			Debug.Assert(!type.IsByRef);
-			TypeWrapper wrapper;
-			lock(globalTypeToTypeWrapper)
-			{
-				globalTypeToTypeWrapper.TryGetValue(type, out wrapper);
-			}
+			TypeWrapper wrapper = (TypeWrapper)globalTypeToTypeWrapper[type];
 			if(wrapper != null)
 			{
 				return wrapper;
@@ -1129,22 +1136,19 @@ namespace IKVM.Internal
 				ClassLoaderWrapper loader = null;
 				if(dynamicAssemblies != null && dynamicAssemblies.TryGetValue(asm, out loader))
 				{
-					lock(loader.typeToTypeWrapper)
+					TypeWrapper tw = (TypeWrapper)loader.typeToTypeWrapper[type];
+					if(tw != null)
 					{
-						TypeWrapper tw;
-						if(loader.typeToTypeWrapper.TryGetValue(type, out tw))
-						{
-							return tw;
-						}
-						// it must be an anonymous type then
-						Debug.Assert(AnonymousTypeWrapper.IsAnonymous(type));
+						return tw;
 					}
+					// it must be an anonymous type then
+					Debug.Assert(AnonymousTypeWrapper.IsAnonymous(type));
 				}
 #endif
 #if !STATIC_COMPILER && !STUB_GENERATOR
 				if(AnonymousTypeWrapper.IsAnonymous(type))
 				{
-					Dictionary<Type, TypeWrapper> typeToTypeWrapper;
+					Hashtable typeToTypeWrapper;
 #if CLASSGC
 					typeToTypeWrapper = loader != null ? loader.typeToTypeWrapper : globalTypeToTypeWrapper;
 #else
@@ -1153,7 +1157,8 @@ namespace IKVM.Internal
 					TypeWrapper tw = new AnonymousTypeWrapper(type);
 					lock(typeToTypeWrapper)
 					{
-						if(!typeToTypeWrapper.TryGetValue(type, out wrapper))
+						wrapper = (TypeWrapper)typeToTypeWrapper[type];
+						if(wrapper == null)
 						{
 							typeToTypeWrapper.Add(type, wrapper = tw);
 						}
@@ -1335,7 +1340,7 @@ namespace IKVM.Internal
 #if !STATIC_COMPILER
 			TypeWrapper.AssertFinished(type);
 #endif
-			Dictionary<Type, TypeWrapper> dict;
+			Hashtable dict;
 #if CLASSGC
 			dict = typeToTypeWrapper ?? globalTypeToTypeWrapper;
 #else
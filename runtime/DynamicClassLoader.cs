@@ -223,7 +223,7 @@ namespace IKVM.Internal
 			return mangledTypeName;
 		}
 
-		internal sealed override TypeWrapper DefineClassImpl(Dictionary<string, TypeWrapper> types, TypeWrapper host, ClassFile f, ClassLoaderWrapper classLoader, ProtectionDomain protectionDomain)
+		internal sealed override TypeWrapper DefineClassImpl(System.Collections.Hashtable types, TypeWrapper host, ClassFile f, ClassLoaderWrapper classLoader, ProtectionDomain protectionDomain)
 		{
 #if STATIC_COMPILER
 			AotTypeWrapper type = new AotTypeWrapper(f, (CompilerClassLoader)classLoader);
@@ -252,8 +252,7 @@ namespace IKVM.Internal
 				// and loaded (not defined) a class with the same name, in that case
 				// we'll leak the the Reflection.Emit defined type. Also see the comment
 				// in ClassLoaderWrapper.RegisterInitiatingLoader().
-				TypeWrapper race;
-				types.TryGetValue(f.Name, out race);
+				TypeWrapper race = (TypeWrapper)types[f.Name];
 				if(race == null)
 				{
 					types[f.Name] = type;
@@ -264,10 +263,72 @@ namespace IKVM.Internal
 					throw new LinkageError("duplicate class definition: " + f.Name);
 				}
 			}
+			if(JVM.BackgroundFinish)
+			{
+				BackgroundFinisher.Enqueue(type);
+			}
 			return type;
 #endif // STATIC_COMPILER
 		}
 
+#if !STATIC_COMPILER && !FIRST_PASS
+		// When IKVM_BACKGROUND_FINISH is set, newly defined classes are finished (linked, verified and compiled
+		// to IL) speculatively on a small pool of background threads, so that a burst of class definitions
+		// (e.g. during framework bootstrap) doesn't have to be compiled on the thread that first uses each class.
+		// Finish() finishes the base class and interfaces first, so the types are processed in dependency order,
+		// and its recursion guard is per thread, so concurrent finishers of a shared base class still link it eagerly.
+		// Any exception is ignored here, the foreground thread will redo the work and report it.
+		private static class BackgroundFinisher
+		{
+			private static readonly Queue<TypeWrapper> queue = new Queue<TypeWrapper>();
+			private static int workers;
+
+			internal static void Enqueue(TypeWrapper type)
+			{
+				lock(queue)
+				{
+					queue.Enqueue(type);
+					if(workers < Math.Max(1, Math.Min(Environment.ProcessorCount - 1, 4)))
+					{
+						workers++;
+						System.Threading.Thread thread = new System.Threading.Thread(Run);
+						thread.Name = "IKVM Background Finisher";
+						thread.IsBackground = true;
+						thread.Priority = System.Threading.ThreadPriority.BelowNormal;
+						thread.Start();
+					}
+					else
+					{
+						System.Threading.Monitor.Pulse(queue);
+					}
+				}
+			}
+
+			private static void Run()
+			{
+				for(;;)
+				{
+					TypeWrapper type;
+					lock(queue)
+					{
+						while(queue.Count == 0)
+						{
+							System.Threading.Monitor.Wait(queue);
+						}
+						type = queue.Dequeue();
+					}
+					try
+					{
+						type.Finish();
+					}
+					catch
+					{
+					}
+				}
+			}
+		}
+#endif
+
 #if !STATIC_COMPILER && !FIRST_PASS
 		private static java.lang.Class TieClassAndWrapper(TypeWrapper type, ProtectionDomain protectionDomain)
 		{
@@ -478,7 +478,10 @@ namespace IKVM.Internal
 			private bool finishInProgress;
 			private MethodBuilder clinitMethod;
 			private MethodBuilder finalizeMethod;
-			private int recursionCount;
+			// per thread recursion count of each type being finished (the count has to be per thread, because
+			// concurrent finishers, e.g. of sibling subclasses on DynamicClassLoader's background threads, are not recursion)
+			[ThreadStatic]
+			private static Dictionary<JavaTypeImpl, int> recursionCounts;
 #if STATIC_COMPILER
 			private DynamicTypeWrapper enclosingClassWrapper;
 			private AnnotationBuilder annotationBuilder;
@@ -990,6 +993,10 @@ namespace IKVM.Internal
 							fw.Link();
 						}
 					}
+					else if (HasContendedAnnotation(classFile))
+					{
+						LinkContendedFields();
+					}
 				}
 #if STATIC_COMPILER
 				finally { }
@@ -1122,6 +1129,141 @@ namespace IKVM.Internal
 				return false;
 			}
 
+			private static bool HasContendedAnnotation(ClassFile c)
+			{
+				if (c.IsInterface)
+				{
+					return false;
+				}
+				if (c.IsContended)
+				{
+					return true;
+				}
+				foreach (ClassFile.Field f in c.Fields)
+				{
+					if (f.IsContended && !f.IsStatic)
+					{
+						return true;
+					}
+				}
+				return false;
+			}
+
+			// We can't control the layout of (auto layout) classes, but the CLR groups the instance fields by size
+			// and keeps the declaration order within each size group. So to implement @sun.misc.Contended we link
+			// the fields in declaration order and at each boundary between contention groups (and at the start and end
+			// of a contended class) we insert a cache line worth of padding fields of each size used by the class.
+			private void LinkContendedFields()
+			{
+				ClassFile.Field[] classFileFields = classFile.Fields;
+				List<Type> paddingTypes = new List<Type>();
+				foreach (ClassFile.Field f in classFileFields)
+				{
+					Type paddingType = GetPaddingType(f);
+					if (!f.IsStatic && !paddingTypes.Contains(paddingType))
+					{
+						paddingTypes.Add(paddingType);
+					}
+				}
+				bool first = true;
+				bool prevContended = false;
+				string prevGroup = null;
+				for (int i = 0; i < classFileFields.Length; i++)
+				{
+					ClassFile.Field f = classFileFields[i];
+					if (!f.IsStatic)
+					{
+						bool contended = f.IsContended;
+						// each field in the anonymous group (i.e. a field annotated with @Contended without a group name)
+						// has its own group, all the other fields are in the group they name
+						if (first
+							? contended || classFile.IsContended
+							: contended != prevContended || (contended && (f.ContendedGroup == "" || f.ContendedGroup != prevGroup)))
+						{
+							DefinePadding(paddingTypes);
+						}
+						first = false;
+						prevContended = contended;
+						prevGroup = f.ContendedGroup;
+					}
+					fields[i].Link();
+				}
+				if (prevContended || classFile.IsContended)
+				{
+					DefinePadding(paddingTypes);
+				}
+				// link the remaining fields (map.xml fields and properties)
+				foreach (FieldWrapper fw in fields)
+				{
+					fw.Link();
+				}
+			}
+
+			private static Type GetPaddingType(ClassFile.Field f)
+			{
+				switch (f.Signature[0])
+				{
+					case 'J':
+					case 'D':
+						return Types.Int64;
+					case 'I':
+					case 'F':
+						return Types.Int32;
+					case 'S':
+					case 'C':
+						return Types.Int16;
+					case 'Z':
+					case 'B':
+						return Types.Byte;
+					default:
+						return Types.Object;
+				}
+			}
+
+			private void DefinePadding(List<Type> paddingTypes)
+			{
+				// 128 bytes covers two adjacent cache lines (to defeat adjacent line prefetching)
+				const int PaddingBytes = 128;
+				foreach (Type paddingType in paddingTypes)
+				{
+					int count = PaddingBytes / GetPaddingSize(paddingType);
+					for (int i = 0; i < count; i++)
+					{
+						typeBuilder.DefineField("__<pad>", paddingType, FieldAttributes.PrivateScope);
+					}
+				}
+			}
+
+			private static int GetPaddingSize(Type paddingType)
+			{
+				if (paddingType == Types.Int64)
+				{
+					return 8;
+				}
+				else if (paddingType == Types.Int32)
+				{
+					return 4;
+				}
+				else if (paddingType == Types.Int16)
+				{
+					return 2;
+				}
+				else if (paddingType == Types.Byte)
+				{
+					return 1;
+				}
+				else
+				{
+#if STATIC_COMPILER
+					// the pointer size of the target isn't known yet, so we assume 4 byte pointers
+					// (on a 64 bit CLR that results in twice the padding, but never in too little)
+					return 4;
+#else
+					return IntPtr.Size;
+#endif
+				}
+			}
+
 #if STATIC_COMPILER
 			private ClassFile.InnerClass getOuterClass()
 			{
@@ -1714,7 +1856,15 @@ namespace IKVM.Internal
 				// are in the process of finishing, and this would be a problem.
 				// Prevent infinity recursion for broken class loaders by keeping a recursion count and falling
 				// back to late binding if we recurse more than twice.
-				LoadMode mode = System.Threading.Interlocked.Increment(ref recursionCount) > 2 || (JVM.DisableEagerClassLoading && wrapper.Name != "sun.reflect.misc.Trampoline")
+				Dictionary<JavaTypeImpl, int> counts = recursionCounts;
+				if (counts == null)
+				{
+					counts = recursionCounts = new Dictionary<JavaTypeImpl, int>();
+				}
+				int recursionCount;
+				counts.TryGetValue(this, out recursionCount);
+				counts[this] = ++recursionCount;
+				LoadMode mode = recursionCount > 2 || (JVM.DisableEagerClassLoading && wrapper.Name != "sun.reflect.misc.Trampoline")
 					? LoadMode.ReturnUnloadable
 					: LoadMode.Link;
 				try
@@ -1731,7 +1881,14 @@ namespace IKVM.Internal
 				}
 				finally
 				{
-					System.Threading.Interlocked.Decrement(ref recursionCount);
+					if (--recursionCount == 0)
+					{
+						counts.Remove(this);
+					}
+					else
+					{
+						counts[this] = recursionCount;
+					}
 				}
 				// this is the correct lock, FinishCore doesn't call any user code and mutates global state,
 				// so it needs to be protected by a lock.
@@ -4681,6 +4838,8 @@ namespace IKVM.Internal
 					if (nestedTypeBuilders != null)
 					{
 						ClassLoaderWrapper.LoadClassCritical("ikvm.internal.IntrinsicAtomicReferenceFieldUpdater").Finish();
+						ClassLoaderWrapper.LoadClassCritical("ikvm.internal.IntrinsicAtomicIntegerFieldUpdater").Finish();
+						ClassLoaderWrapper.LoadClassCritical("ikvm.internal.IntrinsicAtomicLongFieldUpdater").Finish();
 						ClassLoaderWrapper.LoadClassCritical("ikvm.internal.IntrinsicThreadLocal").Finish();
 						foreach (TypeBuilder tb in nestedTypeBuilders)
 						{
@@ -6377,7 +6536,7 @@ namespace IKVM.Internal
 				return cb;
 			}
 
-			internal MethodBuilder GetAtomicReferenceFieldUpdater(FieldWrapper field)
+			internal MethodBuilder GetAtomicFieldUpdater(FieldWrapper field)
 			{
 				if (arfuMap == null)
 				{
@@ -6386,9 +6545,26 @@ namespace IKVM.Internal
 				MethodBuilder cb;
 				if (!arfuMap.TryGetValue(field, out cb))
 				{
-					TypeWrapper arfuTypeWrapper = ClassLoaderWrapper.LoadClassCritical("ikvm.internal.IntrinsicAtomicReferenceFieldUpdater");
-					TypeBuilder tb = typeBuilder.DefineNestedType(NestedTypeName.AtomicReferenceFieldUpdater + arfuMap.Count, TypeAttributes.NestedPrivate | TypeAttributes.Sealed, arfuTypeWrapper.TypeAsBaseType);
-					AtomicReferenceFieldUpdaterEmitter.EmitImpl(tb, field.GetField());
+					TypeWrapper arfuTypeWrapper;
+					TypeBuilder tb;
+					if (field.FieldTypeWrapper == PrimitiveTypeWrapper.INT)
+					{
+						arfuTypeWrapper = ClassLoaderWrapper.LoadClassCritical("ikvm.internal.IntrinsicAtomicIntegerFieldUpdater");
+						tb = typeBuilder.DefineNestedType(NestedTypeName.AtomicIntegerFieldUpdater + arfuMap.Count, TypeAttributes.NestedPrivate | TypeAttributes.Sealed, arfuTypeWrapper.TypeAsBaseType);
+						AtomicPrimitiveFieldUpdaterEmitter.EmitImpl(tb, field.GetField());
+					}
+					else if (field.FieldTypeWrapper == PrimitiveTypeWrapper.LONG)
+					{
+						arfuTypeWrapper = ClassLoaderWrapper.LoadClassCritical("ikvm.internal.IntrinsicAtomicLongFieldUpdater");
+						tb = typeBuilder.DefineNestedType(NestedTypeName.AtomicLongFieldUpdater + arfuMap.Count, TypeAttributes.NestedPrivate | TypeAttributes.Sealed, arfuTypeWrapper.TypeAsBaseType);
+						AtomicPrimitiveFieldUpdaterEmitter.EmitImpl(tb, field.GetField());
+					}
+					else
+					{
+						arfuTypeWrapper = ClassLoaderWrapper.LoadClassCritical("ikvm.internal.IntrinsicAtomicReferenceFieldUpdater");
+						tb = typeBuilder.DefineNestedType(NestedTypeName.AtomicReferenceFieldUpdater + arfuMap.Count, TypeAttributes.NestedPrivate | TypeAttributes.Sealed, arfuTypeWrapper.TypeAsBaseType);
+						AtomicReferenceFieldUpdaterEmitter.EmitImpl(tb, field.GetField());
+					}
 					cb = ReflectUtil.DefineConstructor(tb, MethodAttributes.Assembly, Type.EmptyTypes);
 					arfuMap.Add(field, cb);
 					CodeEmitter ctorilgen = CodeEmitter.Create(cb);
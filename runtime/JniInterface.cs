@@ -538,6 +538,23 @@ namespace IKVM.Runtime
 		private static List<IntPtr> nativeLibraries = new List<IntPtr>();
 		internal static readonly object JniLock = new object();
 
+		// this is called (via Java_java_lang_Thread) when a pooled CLR thread has finished running a Java thread,
+		// it returns false if the thread can't be reused because it still owns monitors entered through MonitorEnter
+		internal static bool ReleaseCarrierJNIEnv()
+		{
+			JNIEnv.ManagedJNIEnv env = TlsHack.ManagedJNIEnv;
+			if(env == null)
+			{
+				return true;
+			}
+			if(env.monitorCount != 0)
+			{
+				return false;
+			}
+			JNIEnv.FreeJNIEnv();
+			return true;
+		}
+
 		// MONOBUG with mcs we can't pass ClassLoaderWrapper from IKVM.Runtime.dll to IKVM.Runtime.JNI.dll
 		internal unsafe static long LoadLibrary(string filename, object loader)
 		{
@@ -1275,6 +1292,8 @@ namespace IKVM.Runtime
 			private int localRefIndex;
 			private object[] active;
 			internal Exception pendingException;
+			// the number of monitors entered (and not yet exited) through MonitorEnter
+			internal int monitorCount;
 
 			internal ManagedJNIEnv()
 			{
@@ -3458,6 +3477,7 @@ namespace IKVM.Runtime
 #pragma warning disable 618
 				System.Threading.Monitor.Enter(pEnv->UnwrapRef(obj));
 #pragma warning restore 618
+				pEnv->GetManagedJNIEnv().monitorCount++;
 				return JNI_OK;
 			}
 			catch(Exception x)
@@ -3472,6 +3492,7 @@ namespace IKVM.Runtime
 			try
 			{
 				System.Threading.Monitor.Exit(pEnv->UnwrapRef(obj));
+				pEnv->GetManagedJNIEnv().monitorCount--;
 				return JNI_OK;
 			}
 			catch(Exception x)
@@ -1975,6 +1975,8 @@ namespace IKVM.Internal
 		// prefixes
 		internal const string ThreadLocal = "__<tls>_";
 		internal const string AtomicReferenceFieldUpdater = "__<ARFU>_";
+		internal const string AtomicIntegerFieldUpdater = "__<AIFU>_";
+		internal const string AtomicLongFieldUpdater = "__<ALFU>_";
 		internal const string IndyCallSite = "__<>IndyCS";
 		internal const string MethodHandleConstant = "__<>MHC";
 		internal const string MethodTypeConstant = "__<>MTC";
@@ -61,7 +61,7 @@ static class AtomicReferenceFieldUpdaterEmitter
 					ilgen.Emit(OpCodes.Pop);
 					ilgen.Emit(OpCodes.Pop);
 					ilgen.Emit(OpCodes.Pop);
-					ilgen.Emit(OpCodes.Newobj, context.GetAtomicReferenceFieldUpdater(field));
+					ilgen.Emit(OpCodes.Newobj, context.GetAtomicFieldUpdater(field));
 					return true;
 				}
 			}
@@ -125,11 +125,141 @@ static class AtomicReferenceFieldUpdaterEmitter
 	}
 }
 
+// this handles the AtomicIntegerFieldUpdater and AtomicLongFieldUpdater intrinsics
+static class AtomicPrimitiveFieldUpdaterEmitter
+{
+	internal static bool Emit(DynamicTypeWrapper.FinishContext context, TypeWrapper wrapper, CodeEmitter ilgen, ClassFile classFile, int i, ClassFile.Method.Instruction[] code, InstructionFlags[] flags, TypeWrapper fieldType)
+	{
+		if (i >= 2
+			&& (flags[i - 0] & InstructionFlags.BranchTarget) == 0
+			&& (flags[i - 1] & InstructionFlags.BranchTarget) == 0
+			&& (flags[i - 2] & InstructionFlags.BranchTarget) == 0
+			&& code[i - 1].NormalizedOpCode == NormalizedByteCode.__ldc_nothrow
+			&& code[i - 2].NormalizedOpCode == NormalizedByteCode.__ldc)
+		{
+			// we now have a structural match, now we need to make sure that the argument values are what we expect
+			TypeWrapper tclass = classFile.GetConstantPoolClassType(code[i - 2].Arg1);
+			string fieldName = classFile.GetConstantPoolConstantString(code[i - 1].Arg1);
+			if (tclass == wrapper)
+			{
+				FieldWrapper field = wrapper.GetFieldWrapper(fieldName, fieldType.SigName);
+				if (field != null && !field.IsStatic && field.IsVolatile && field.DeclaringType == wrapper && field.FieldTypeWrapper == fieldType)
+				{
+					// everything matches up, now call the actual emitter
+					ilgen.Emit(OpCodes.Pop);
+					ilgen.Emit(OpCodes.Pop);
+					ilgen.Emit(OpCodes.Newobj, context.GetAtomicFieldUpdater(field));
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	internal static void EmitImpl(TypeBuilder tb, FieldInfo field)
+	{
+		bool isLong = field.FieldType == Types.Int64;
+		EmitCompareAndSet(tb, field, isLong ? InterlockedMethods.CompareExchangeInt64 : InterlockedMethods.CompareExchangeInt32);
+		EmitGet(tb, field, isLong);
+		EmitSet(tb, field, isLong);
+		EmitGetAndSet(tb, field, isLong ? InterlockedMethods.ExchangeInt64 : InterlockedMethods.ExchangeInt32);
+		EmitGetAndAdd(tb, field, isLong ? InterlockedMethods.AddInt64 : InterlockedMethods.AddInt32);
+	}
+
+	private static void EmitCompareAndSet(TypeBuilder tb, FieldInfo field, MethodInfo compareExchange)
+	{
+		MethodBuilder compareAndSet = tb.DefineMethod("compareAndSet", MethodAttributes.Public | MethodAttributes.Virtual, Types.Boolean, new Type[] { Types.Object, field.FieldType, field.FieldType });
+		ILGenerator ilgen = compareAndSet.GetILGenerator();
+		ilgen.Emit(OpCodes.Ldarg_1);
+		ilgen.Emit(OpCodes.Castclass, field.DeclaringType);
+		ilgen.Emit(OpCodes.Ldflda, field);
+		ilgen.Emit(OpCodes.Ldarg_3);
+		ilgen.Emit(OpCodes.Ldarg_2);
+		ilgen.Emit(OpCodes.Call, compareExchange);
+		ilgen.Emit(OpCodes.Ldarg_2);
+		ilgen.Emit(OpCodes.Ceq);
+		ilgen.Emit(OpCodes.Ret);
+	}
+
+	private static void EmitGet(TypeBuilder tb, FieldInfo field, bool isLong)
+	{
+		MethodBuilder get = tb.DefineMethod("get", MethodAttributes.Public | MethodAttributes.Virtual, field.FieldType, new Type[] { Types.Object });
+		ILGenerator ilgen = get.GetILGenerator();
+		ilgen.Emit(OpCodes.Ldarg_1);
+		ilgen.Emit(OpCodes.Castclass, field.DeclaringType);
+		if (isLong)
+		{
+			// a volatile long read isn't atomic on 32 bit platforms
+			ilgen.Emit(OpCodes.Ldflda, field);
+			ilgen.Emit(OpCodes.Call, ByteCodeHelperMethods.volatileReadLong);
+		}
+		else
+		{
+			ilgen.Emit(OpCodes.Volatile);
+			ilgen.Emit(OpCodes.Ldfld, field);
+		}
+		ilgen.Emit(OpCodes.Ret);
+	}
+
+	private static void EmitSet(TypeBuilder tb, FieldInfo field, bool isLong)
+	{
+		MethodBuilder set = tb.DefineMethod("set", MethodAttributes.Public | MethodAttributes.Virtual, Types.Void, new Type[] { Types.Object, field.FieldType });
+		CodeEmitter ilgen = CodeEmitter.Create(set);
+		ilgen.Emit(OpCodes.Ldarg_1);
+		ilgen.Emit(OpCodes.Castclass, field.DeclaringType);
+		if (isLong)
+		{
+			ilgen.Emit(OpCodes.Ldflda, field);
+			ilgen.Emit(OpCodes.Ldarg_2);
+			ilgen.Emit(OpCodes.Call, ByteCodeHelperMethods.volatileWriteLong);
+		}
+		else
+		{
+			ilgen.Emit(OpCodes.Ldarg_2);
+			ilgen.Emit(OpCodes.Volatile);
+			ilgen.Emit(OpCodes.Stfld, field);
+			ilgen.EmitMemoryBarrier();
+		}
+		ilgen.Emit(OpCodes.Ret);
+		ilgen.DoEmit();
+	}
+
+	private static void EmitGetAndSet(TypeBuilder tb, FieldInfo field, MethodInfo exchange)
+	{
+		MethodBuilder getAndSet = tb.DefineMethod("getAndSet", MethodAttributes.Public | MethodAttributes.Virtual, field.FieldType, new Type[] { Types.Object, field.FieldType });
+		ILGenerator ilgen = getAndSet.GetILGenerator();
+		ilgen.Emit(OpCodes.Ldarg_1);
+		ilgen.Emit(OpCodes.Castclass, field.DeclaringType);
+		ilgen.Emit(OpCodes.Ldflda, field);
+		ilgen.Emit(OpCodes.Ldarg_2);
+		ilgen.Emit(OpCodes.Call, exchange);
+		ilgen.Emit(OpCodes.Ret);
+	}
+
+	private static void EmitGetAndAdd(TypeBuilder tb, FieldInfo field, MethodInfo add)
+	{
+		MethodBuilder getAndAdd = tb.DefineMethod("getAndAdd", MethodAttributes.Public | MethodAttributes.Virtual, field.FieldType, new Type[] { Types.Object, field.FieldType });
+		ILGenerator ilgen = getAndAdd.GetILGenerator();
+		ilgen.Emit(OpCodes.Ldarg_1);
+		ilgen.Emit(OpCodes.Castclass, field.DeclaringType);
+		ilgen.Emit(OpCodes.Ldflda, field);
+		ilgen.Emit(OpCodes.Ldarg_2);
+		// Interlocked.Add returns the new value
+		ilgen.Emit(OpCodes.Call, add);
+		ilgen.Emit(OpCodes.Ldarg_2);
+		ilgen.Emit(OpCodes.Sub);
+		ilgen.Emit(OpCodes.Ret);
+	}
+}
+
 static class InterlockedMethods
 {
 	internal static readonly MethodInfo AddInt32;
+	internal static readonly MethodInfo AddInt64;
 	internal static readonly MethodInfo CompareExchangeInt32;
 	internal static readonly MethodInfo CompareExchangeInt64;
+	internal static readonly MethodInfo ExchangeInt32;
+	internal static readonly MethodInfo ExchangeInt64;
 	internal static readonly MethodInfo CompareExchangeOfT;
 	internal static readonly MethodInfo ExchangeOfT;
 
@@ -137,8 +267,11 @@ static class InterlockedMethods
 	{
 		Type type = JVM.Import(typeof(System.Threading.Interlocked));
 		AddInt32 = type.GetMethod("Add", new Type[] { Types.Int32.MakeByRefType(), Types.Int32 });
+		AddInt64 = type.GetMethod("Add", new Type[] { Types.Int64.MakeByRefType(), Types.Int64 });
 		CompareExchangeInt32 = type.GetMethod("CompareExchange", new Type[] { Types.Int32.MakeByRefType(), Types.Int32, Types.Int32 });
 		CompareExchangeInt64 = type.GetMethod("CompareExchange", new Type[] { Types.Int64.MakeByRefType(), Types.Int64, Types.Int64 });
+		ExchangeInt32 = type.GetMethod("Exchange", new Type[] { Types.Int32.MakeByRefType(), Types.Int32 });
+		ExchangeInt64 = type.GetMethod("Exchange", new Type[] { Types.Int64.MakeByRefType(), Types.Int64 });
 		foreach (MethodInfo m in type.GetMethods())
 		{
 			if (m.IsGenericMethodDefinition)
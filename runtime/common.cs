@@ -47,12 +47,8 @@ namespace IKVM.NativeCode.gnu.java.net.protocol.ikvmres
 	{
 		public static byte[] GenerateStub(jlClass c)
 		{
-			MemoryStream mem = new MemoryStream();
-#if !FIRST_PASS
-			bool includeNonPublicInterfaces = !"true".Equals(global::java.lang.Props.props.getProperty("ikvm.stubgen.skipNonPublicInterfaces"), StringComparison.OrdinalIgnoreCase);
-			IKVM.StubGen.StubGenerator.WriteClass(mem, TypeWrapper.FromClass(c), includeNonPublicInterfaces, false, false, true);
-#endif
-			return mem.ToArray();
+			// the array is shared with the stub cache, but our caller only wraps it in a ByteArrayInputStream
+			return IKVM.StubGen.StubCache.GetStub(TypeWrapper.FromClass(c));
 		}
 
 		public static Stream ReadResourceFromAssemblyImpl(Assembly asm, string resource)
@@ -395,32 +391,119 @@ namespace IKVM.NativeCode.ikvm.runtime
 
 	static class AppDomainAssemblyClassLoader
 	{
-		public static object loadClassFromAssembly(Assembly asm, string className)
+		// The class loaders of the (non-dynamic) assemblies in the AppDomain, in load order and without duplicates.
+		// The list is cached until the AssemblyLoad event tells us that it is stale, so that we don't have to call
+		// AppDomain.GetAssemblies() and AssemblyClassLoader.FromAssembly() for every lookup.
+		private static readonly object syncRoot = new object();
+		private static bool subscribed;
+		private static int generation;
+		private static IKVM.Internal.AssemblyClassLoader[] loaders;
+		// Class.forName() probing makes misses very common, so we remember the names that weren't found in
+		// any assembly. A miss can only turn into a hit when a new assembly is loaded, so then we forget them.
+		// Generic type instances may depend on assemblies that fail to load now, so we don't cache those.
+		private const int MaxMisses = 4096;
+		private static Dictionary<string, string> misses = new Dictionary<string, string>();
+
+		private static IKVM.Internal.AssemblyClassLoader[] GetLoaders(out int gen)
+		{
+			lock (syncRoot)
+			{
+				gen = generation;
+				if (loaders != null)
+				{
+					return loaders;
+				}
+				if (!subscribed)
+				{
+					AppDomain.CurrentDomain.AssemblyLoad += new AssemblyLoadEventHandler(OnAssemblyLoad);
+					subscribed = true;
+				}
+			}
+			// we can't hold our lock while calling AssemblyClassLoader.FromAssembly(),
+			// because that may load an assembly and hence fire the AssemblyLoad event
+			List<IKVM.Internal.AssemblyClassLoader> list = new List<IKVM.Internal.AssemblyClassLoader>();
+			foreach (Assembly asm in AppDomain.CurrentDomain.GetAssemblies())
+			{
+				if (!ReflectUtil.IsDynamicAssembly(asm))
+				{
+					IKVM.Internal.AssemblyClassLoader acl = IKVM.Internal.AssemblyClassLoader.FromAssembly(asm);
+					if (!list.Contains(acl))
+					{
+						list.Add(acl);
+					}
+				}
+			}
+			IKVM.Internal.AssemblyClassLoader[] arr = list.ToArray();
+			lock (syncRoot)
+			{
+				// if an assembly was loaded in the meantime, our list may be incomplete,
+				// so we only use it for this lookup and let the next lookup try again
+				if (gen == generation)
+				{
+					loaders = arr;
+				}
+			}
+			return arr;
+		}
+
+		private static void OnAssemblyLoad(object sender, AssemblyLoadEventArgs args)
 		{
-			if(ReflectUtil.IsDynamicAssembly(asm))
+			if (!ReflectUtil.IsDynamicAssembly(args.LoadedAssembly))
 			{
-				return null;
+				lock (syncRoot)
+				{
+					generation++;
+					loaders = null;
+					if (misses.Count != 0)
+					{
+						misses = new Dictionary<string, string>();
+					}
+				}
 			}
-			TypeWrapper tw = IKVM.Internal.AssemblyClassLoader.FromAssembly(asm).DoLoad(className);
-			return tw != null ? tw.ClassObject : null;
 		}
 
-		private static IEnumerable<global::java.net.URL> FindResources(string name)
+		public static object findClassInAppDomain(string className)
 		{
-			List<IKVM.Internal.AssemblyClassLoader> done = new List<IKVM.Internal.AssemblyClassLoader>();
-			foreach (Assembly asm in AppDomain.CurrentDomain.GetAssemblies())
+			bool cacheable = className.IndexOf("_$$$_", StringComparison.Ordinal) == -1;
+			lock (syncRoot)
 			{
-				if (!ReflectUtil.IsDynamicAssembly(asm))
+				if (cacheable && misses.ContainsKey(className))
 				{
-					IKVM.Internal.AssemblyClassLoader acl = IKVM.Internal.AssemblyClassLoader.FromAssembly(asm);
-					if (!done.Contains(acl))
+					return null;
+				}
+			}
+			int gen;
+			foreach (IKVM.Internal.AssemblyClassLoader acl in GetLoaders(out gen))
+			{
+				TypeWrapper tw = acl.DoLoad(className);
+				if (tw != null)
+				{
+					return tw.ClassObject;
+				}
+			}
+			lock (syncRoot)
+			{
+				// we can only record the miss if no assembly was loaded while we were searching
+				if (cacheable && gen == generation)
+				{
+					if (misses.Count >= MaxMisses)
 					{
-						done.Add(acl);
-						foreach (global::java.net.URL url in acl.FindResources(name))
-						{
-							yield return url;
-						}
+						misses = new Dictionary<string, string>();
 					}
+					misses[className] = className;
+				}
+			}
+			return null;
+		}
+
+		private static IEnumerable<global::java.net.URL> FindResources(string name)
+		{
+			int gen;
+			foreach (IKVM.Internal.AssemblyClassLoader acl in GetLoaders(out gen))
+			{
+				foreach (global::java.net.URL url in acl.FindResources(name))
+				{
+					yield return url;
 				}
 			}
 		}
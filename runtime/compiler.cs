@@ -50,6 +50,7 @@ static class ByteCodeHelperMethods
 	internal static readonly MethodInfo d2i;
 	internal static readonly MethodInfo f2l;
 	internal static readonly MethodInfo d2l;
+	internal static readonly MethodInfo pow;
 	internal static readonly MethodInfo arraycopy_fast;
 	internal static readonly MethodInfo arraycopy_primitive_8;
 	internal static readonly MethodInfo arraycopy_primitive_4;
@@ -99,6 +100,7 @@ static class ByteCodeHelperMethods
 		d2i = GetHelper(typeofByteCodeHelper, "d2i");
 		f2l = GetHelper(typeofByteCodeHelper, "f2l");
 		d2l = GetHelper(typeofByteCodeHelper, "d2l");
+		pow = GetHelper(typeofByteCodeHelper, "pow");
 		arraycopy_fast = GetHelper(typeofByteCodeHelper, "arraycopy_fast");
 		arraycopy_primitive_8 = GetHelper(typeofByteCodeHelper, "arraycopy_primitive_8");
 		arraycopy_primitive_4 = GetHelper(typeofByteCodeHelper, "arraycopy_primitive_4");
@@ -188,7 +188,24 @@ namespace IKVM.Internal
 			intrinsics.Add(new IntrinsicKey("java.lang.Double", "doubleToRawLongBits", "(D)J"), Double_doubleToRawLongBits);
 			intrinsics.Add(new IntrinsicKey("java.lang.Double", "longBitsToDouble", "(J)D"), Double_longBitsToDouble);
 			intrinsics.Add(new IntrinsicKey("java.lang.System", "arraycopy", "(Ljava.lang.Object;ILjava.lang.Object;II)V"), System_arraycopy);
+			// these are exact (correctly rounded), so they are also valid for StrictMath
+			intrinsics.Add(new IntrinsicKey("java.lang.Math", "sqrt", "(D)D"), Math_sqrt);
+			intrinsics.Add(new IntrinsicKey("java.lang.Math", "floor", "(D)D"), Math_floor);
+			intrinsics.Add(new IntrinsicKey("java.lang.Math", "ceil", "(D)D"), Math_ceil);
+			intrinsics.Add(new IntrinsicKey("java.lang.StrictMath", "sqrt", "(D)D"), Math_sqrt);
+			intrinsics.Add(new IntrinsicKey("java.lang.StrictMath", "floor", "(D)D"), Math_floor);
+			intrinsics.Add(new IntrinsicKey("java.lang.StrictMath", "ceil", "(D)D"), Math_ceil);
+			// StrictMath.log and log10 are already implemented with System.Math
+			intrinsics.Add(new IntrinsicKey("java.lang.Math", "log", "(D)D"), Math_log);
+			intrinsics.Add(new IntrinsicKey("java.lang.Math", "log10", "(D)D"), Math_log10);
+			intrinsics.Add(new IntrinsicKey("java.lang.StrictMath", "log", "(D)D"), Math_log);
+			intrinsics.Add(new IntrinsicKey("java.lang.StrictMath", "log10", "(D)D"), Math_log10);
+			// these are within the 1 ulp allowed by java.lang.Math, StrictMath continues to use fdlibm
+			intrinsics.Add(new IntrinsicKey("java.lang.Math", "exp", "(D)D"), Math_exp);
+			intrinsics.Add(new IntrinsicKey("java.lang.Math", "pow", "(DD)D"), Math_pow);
 			intrinsics.Add(new IntrinsicKey("java.util.concurrent.atomic.AtomicReferenceFieldUpdater", "newUpdater", "(Ljava.lang.Class;Ljava.lang.Class;Ljava.lang.String;)Ljava.util.concurrent.atomic.AtomicReferenceFieldUpdater;"), AtomicReferenceFieldUpdater_newUpdater);
+			intrinsics.Add(new IntrinsicKey("java.util.concurrent.atomic.AtomicIntegerFieldUpdater", "newUpdater", "(Ljava.lang.Class;Ljava.lang.String;)Ljava.util.concurrent.atomic.AtomicIntegerFieldUpdater;"), AtomicIntegerFieldUpdater_newUpdater);
+			intrinsics.Add(new IntrinsicKey("java.util.concurrent.atomic.AtomicLongFieldUpdater", "newUpdater", "(Ljava.lang.Class;Ljava.lang.String;)Ljava.util.concurrent.atomic.AtomicLongFieldUpdater;"), AtomicLongFieldUpdater_newUpdater);
 #if STATIC_COMPILER
 			// String_toCharArray relies on globals, which aren't usable in dynamic mode
 			intrinsics.Add(new IntrinsicKey("java.lang.String", "toCharArray", "()[C"), String_toCharArray);
@@ -396,6 +413,49 @@ namespace IKVM.Internal
 			ilgen.Emit(OpCodes.Call, converterType.GetMethod(method));
 		}
 
+		private static bool Math_sqrt(EmitIntrinsicContext eic)
+		{
+			return EmitSystemMath(eic, "Sqrt");
+		}
+
+		private static bool Math_floor(EmitIntrinsicContext eic)
+		{
+			return EmitSystemMath(eic, "Floor");
+		}
+
+		private static bool Math_ceil(EmitIntrinsicContext eic)
+		{
+			return EmitSystemMath(eic, "Ceiling");
+		}
+
+		private static bool Math_log(EmitIntrinsicContext eic)
+		{
+			return EmitSystemMath(eic, "Log");
+		}
+
+		private static bool Math_log10(EmitIntrinsicContext eic)
+		{
+			return EmitSystemMath(eic, "Log10");
+		}
+
+		private static bool Math_exp(EmitIntrinsicContext eic)
+		{
+			return EmitSystemMath(eic, "Exp");
+		}
+
+		private static bool Math_pow(EmitIntrinsicContext eic)
+		{
+			// System.Math.Pow follows C99 for a few special cases where Java requires NaN, so we call a helper
+			eic.Emitter.Emit(OpCodes.Call, ByteCodeHelperMethods.pow);
+			return true;
+		}
+
+		private static bool EmitSystemMath(EmitIntrinsicContext eic, string method)
+		{
+			eic.Emitter.Emit(OpCodes.Call, JVM.Import(typeof(Math)).GetMethod(method, new Type[] { Types.Double }));
+			return true;
+		}
+
 		private static bool System_arraycopy(EmitIntrinsicContext eic)
 		{
 			// if the array arguments on the stack are of a known array type, we can redirect to an optimized version of arraycopy.
@@ -452,6 +512,16 @@ namespace IKVM.Internal
 			return AtomicReferenceFieldUpdaterEmitter.Emit(eic.Context, eic.Caller.DeclaringType, eic.Emitter, eic.ClassFile, eic.OpcodeIndex, eic.Code, eic.Flags);
 		}
 
+		private static bool AtomicIntegerFieldUpdater_newUpdater(EmitIntrinsicContext eic)
+		{
+			return AtomicPrimitiveFieldUpdaterEmitter.Emit(eic.Context, eic.Caller.DeclaringType, eic.Emitter, eic.ClassFile, eic.OpcodeIndex, eic.Code, eic.Flags, PrimitiveTypeWrapper.INT);
+		}
+
+		private static bool AtomicLongFieldUpdater_newUpdater(EmitIntrinsicContext eic)
+		{
+			return AtomicPrimitiveFieldUpdaterEmitter.Emit(eic.Context, eic.Caller.DeclaringType, eic.Emitter, eic.ClassFile, eic.OpcodeIndex, eic.Code, eic.Flags, PrimitiveTypeWrapper.LONG);
+		}
+
 #if STATIC_COMPILER
 		private static bool String_toCharArray(EmitIntrinsicContext eic)
 		{
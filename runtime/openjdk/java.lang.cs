@@ -1177,6 +1177,8 @@ static class Java_java_lang_System
 static class Java_java_lang_Thread
 {
 	private static readonly object mainThreadGroup;
+	private delegate bool IsEnteredDelegate(object obj);
+	private static readonly IsEnteredDelegate monitorIsEntered = GetMonitorIsEntered();
 
 #if !FIRST_PASS
 	static Java_java_lang_Thread()
@@ -1190,6 +1192,52 @@ static class Java_java_lang_Thread
 		return mainThreadGroup;
 	}
 
+	public static bool holdsLock0(object obj)
+	{
+		if (monitorIsEntered != null)
+		{
+			return monitorIsEntered(obj);
+		}
+		try
+		{
+			// The 1.5 memory model (JSR133) explicitly allows spurious wake-ups from Object.wait,
+			// so we abuse Pulse to check if we own the monitor.
+			Monitor.Pulse(obj);
+			return true;
+		}
+		catch (SynchronizationLockException)
+		{
+			return false;
+		}
+	}
+
+	private static IsEnteredDelegate GetMonitorIsEntered()
+	{
+		// Monitor.IsEntered was added in .NET 4.5, so we bind to it dynamically
+		MethodInfo method = typeof(Monitor).GetMethod("IsEntered", BindingFlags.Public | BindingFlags.Static, null, new Type[] { typeof(object) }, null);
+		return method == null ? null : (IsEnteredDelegate)Delegate.CreateDelegate(typeof(IsEnteredDelegate), method);
+	}
+
+	public static bool releaseCarrierJniEnv()
+	{
+#if FIRST_PASS
+		return true;
+#else
+		// if the JNI assembly isn't loaded, the thread can't have a JNIEnv
+		return Java_java_lang_SecurityManager.jniAssembly == null || ReleaseCarrierJNIEnv();
+#endif
+	}
+
+#if !FIRST_PASS
+	// we don't want to inline this method, because that would needlessly cause IKVM.Runtime.JNI.dll to be loaded
+	[MethodImpl(MethodImplOptions.NoInlining)]
+	[SecuritySafeCritical]
+	private static bool ReleaseCarrierJNIEnv()
+	{
+		return IKVM.Runtime.JniHelper.ReleaseCarrierJNIEnv();
+	}
+#endif
+
 	// this is called from JniInterface.cs
 	internal static void WaitUntilLastJniThread()
 	{
@@ -47,6 +47,39 @@ static class Java_ikvm_runtime_Startup
 	}
 }
 
+static class Java_ikvm_internal_Formatter
+{
+	public static string formatByte(sbyte b, string format, IFormatProvider provider)
+	{
+		return b.ToString(format, provider);
+	}
+
+	public static string formatShort(short s, string format, IFormatProvider provider)
+	{
+		return s.ToString(format, provider);
+	}
+
+	public static string formatInt(int i, string format, IFormatProvider provider)
+	{
+		return i.ToString(format, provider);
+	}
+
+	public static string formatLong(long l, string format, IFormatProvider provider)
+	{
+		return l.ToString(format, provider);
+	}
+
+	public static string formatFloat(float f, string format, IFormatProvider provider)
+	{
+		return f.ToString(format, provider);
+	}
+
+	public static string formatDouble(double d, string format, IFormatProvider provider)
+	{
+		return d.ToString(format, provider);
+	}
+}
+
 static class Java_java_lang_ref_Reference
 {
 	public static bool noclassgc()
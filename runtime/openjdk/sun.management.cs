@@ -249,7 +249,7 @@ static class Java_sun_management_ThreadImpl
                             object[] parameters = new object[9];
                             parameters[0] = thread;                     // thread
                             parameters[1] = state;                      // state
-                                                                        // lockObj
+                            parameters[2] = GetLockObject(thread);      // lockObj
                                                                         // lockOwner
                             parameters[4] = 0;                          // blockedCount
                             parameters[5] = 0;                          // blockedTime
@@ -268,6 +268,16 @@ static class Java_sun_management_ThreadImpl
 #endif
     }
 
+#if !FIRST_PASS
+	// CLR monitors can only be queried by their owner (Monitor.IsEntered), so we can't report lock owners,
+	// but we do know what object a thread is waiting on or parked for
+	private static object GetLockObject(java.lang.Thread thread)
+	{
+		object obj = thread.waitObject;
+		return obj ?? thread.parkBlocker;
+	}
+#endif
+
 	private static int GetCurrentThreadId()
 	{
 #pragma warning disable 618
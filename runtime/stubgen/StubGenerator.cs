@@ -891,4 +891,115 @@ namespace IKVM.StubGen
 #endif
 		}
 	}
+
+#if !STUB_GENERATOR
+	// Process-wide cache of the class stubs that we generate when the .class resource of a compiled class is requested
+	// (via the ikvmres protocol handler or the virtual file system). Bytecode scanning and instrumentation libraries tend to
+	// request the same classes over and over again, so we keep the most recently used stubs around, up to a memory budget.
+	// Note that the returned arrays are shared, so they must not be modified.
+	static class StubCache
+	{
+		private const int Budget = 8 * 1024 * 1024;
+		private static readonly Dictionary<TypeWrapper, LinkedListNode<Entry>> map = new Dictionary<TypeWrapper, LinkedListNode<Entry>>();
+		private static readonly LinkedList<Entry> lru = new LinkedList<Entry>();
+		private static int size;
+
+		private sealed class Entry
+		{
+			internal readonly TypeWrapper Wrapper;
+			internal readonly bool IncludeNonPublicInterfaces;
+			internal readonly byte[] Stub;
+
+			internal Entry(TypeWrapper wrapper, bool includeNonPublicInterfaces, byte[] stub)
+			{
+				this.Wrapper = wrapper;
+				this.IncludeNonPublicInterfaces = includeNonPublicInterfaces;
+				this.Stub = stub;
+			}
+		}
+
+		// Stubs that are too large for the cache are weakly referenced by the caller (e.g. a VfsAssemblyClass),
+		// so that a stat followed by an open of the same class file doesn't generate the stub twice.
+		internal sealed class OversizedStub
+		{
+			internal readonly bool IncludeNonPublicInterfaces;
+			internal readonly WeakReference Stub;
+
+			internal OversizedStub(bool includeNonPublicInterfaces, byte[] stub)
+			{
+				this.IncludeNonPublicInterfaces = includeNonPublicInterfaces;
+				this.Stub = new WeakReference(stub);
+			}
+		}
+
+		internal static byte[] GetStub(TypeWrapper tw)
+		{
+			OversizedStub oversized = null;
+			return GetStub(tw, ref oversized);
+		}
+
+		internal static byte[] GetStub(TypeWrapper tw, ref OversizedStub oversized)
+		{
+#if FIRST_PASS
+			return null;
+#else
+			bool includeNonPublicInterfaces = !"true".Equals(global::java.lang.Props.props.getProperty("ikvm.stubgen.skipNonPublicInterfaces"), StringComparison.OrdinalIgnoreCase);
+			OversizedStub weak = oversized;
+			if (weak != null && weak.IncludeNonPublicInterfaces == includeNonPublicInterfaces)
+			{
+				byte[] buf = (byte[])weak.Stub.Target;
+				if (buf != null)
+				{
+					Profiler.Count("StubCache.OversizedHit");
+					return buf;
+				}
+			}
+			lock (lru)
+			{
+				LinkedListNode<Entry> node;
+				if (map.TryGetValue(tw, out node) && node.Value.IncludeNonPublicInterfaces == includeNonPublicInterfaces)
+				{
+					Profiler.Count("StubCache.Hit");
+					lru.Remove(node);
+					lru.AddFirst(node);
+					return node.Value.Stub;
+				}
+			}
+			Profiler.Count("StubCache.Miss");
+			MemoryStream mem = new MemoryStream();
+			StubGenerator.WriteClass(mem, tw, includeNonPublicInterfaces, false, false, true);
+			byte[] stub = mem.ToArray();
+			if (stub.Length <= Budget / 16)
+			{
+				lock (lru)
+				{
+					LinkedListNode<Entry> node;
+					if (map.TryGetValue(tw, out node))
+					{
+						// another thread beat us to it, or the ikvm.stubgen.skipNonPublicInterfaces property was changed
+						lru.Remove(node);
+						size -= node.Value.Stub.Length;
+					}
+					node = lru.AddFirst(new Entry(tw, includeNonPublicInterfaces, stub));
+					map[tw] = node;
+					size += stub.Length;
+					while (size > Budget)
+					{
+						Entry last = lru.Last.Value;
+						lru.RemoveLast();
+						map.Remove(last.Wrapper);
+						size -= last.Stub.Length;
+						Profiler.Count("StubCache.Evict");
+					}
+				}
+			}
+			else
+			{
+				oversized = new OversizedStub(includeNonPublicInterfaces, stub);
+			}
+			return stub;
+#endif
+		}
+	}
+#endif
 }
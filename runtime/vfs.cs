@@ -22,6 +22,7 @@
   
 */
 using System;
+using System.Collections;
 using System.Collections.Generic;
 using System.Threading;
 using System.Reflection;
@@ -73,7 +74,10 @@ namespace IKVM.Internal
 
 		private class VfsDirectory : VfsEntry
 		{
-			protected readonly Dictionary<string, VfsEntry> entries = new Dictionary<string,VfsEntry>();
+			// name -> VfsEntry, this is a Hashtable because that allows lookups without locking (additions have to lock)
+			protected readonly Hashtable entries = new Hashtable();
+			// the cached result of List(), reset when an entry is added
+			private volatile string[] list;
 
 			internal VfsDirectory AddDirectory(string name)
 			{
@@ -87,6 +91,7 @@ namespace IKVM.Internal
 				lock (entries)
 				{
 					entries.Add(name, entry);
+					list = null;
 				}
 			}
 
@@ -110,22 +115,23 @@ namespace IKVM.Internal
 
 			internal virtual VfsEntry GetEntry(string name)
 			{
-				VfsEntry entry;
-				lock (entries)
-				{
-					entries.TryGetValue(name, out entry);
-				}
-				return entry;
+				return (VfsEntry)entries[name];
 			}
 
 			internal virtual string[] List()
 			{
-				lock (entries)
+				string[] names = list;
+				if (names == null)
 				{
-					string[] list = new string[entries.Keys.Count];
-					entries.Keys.CopyTo(list, 0);
-					return list;
+					lock (entries)
+					{
+						names = new string[entries.Count];
+						entries.Keys.CopyTo(names, 0);
+						list = names;
+					}
 				}
+				// the array is handed out to Java code, so we have to return a copy
+				return (string[])names.Clone();
 			}
 		}
 
@@ -174,8 +180,8 @@ namespace IKVM.Internal
 			{
 				lock (entries)
 				{
-					VfsEntry entry;
-					if (!entries.TryGetValue(name, out entry))
+					VfsEntry entry = (VfsEntry)entries[name];
+					if (entry == null)
 					{
 						VfsDirectory dir = new VfsDirectory();
 						dir.Add("resources", new VfsAssemblyResourcesDirectory(asm));
@@ -358,6 +364,7 @@ namespace IKVM.Internal
 		private sealed class VfsAssemblyResourcesDirectory : VfsDirectory
 		{
 			private readonly Assembly asm;
+			private string[] resourceNames;
 
 			internal VfsAssemblyResourcesDirectory(Assembly asm)
 			{
@@ -374,10 +381,11 @@ namespace IKVM.Internal
 					{
 						lock (entries)
 						{
-							if (!entries.TryGetValue(name, out entry))
+							entry = (VfsEntry)entries[name];
+							if (entry == null)
 							{
 								entry = new VfsAssemblyResource(asm, name);
-								entries.Add(name, entry);
+								Add(name, entry);
 							}
 						}
 					}
@@ -387,7 +395,12 @@ namespace IKVM.Internal
 
 			internal override string[] List()
 			{
-				return asm.GetManifestResourceNames();
+				if (resourceNames == null)
+				{
+					resourceNames = asm.GetManifestResourceNames();
+				}
+				// the array is handed out to Java code, so we have to return a copy
+				return (string[])resourceNames.Clone();
 			}
 		}
 
@@ -422,7 +435,9 @@ namespace IKVM.Internal
 		private sealed class VfsAssemblyClassesDirectory : VfsDirectory
 		{
 			private readonly Assembly asm;
-			private readonly Dictionary<string, VfsEntry> classes = new Dictionary<string, VfsEntry>();
+			// class name -> VfsAssemblyClass, lookups don't lock (see VfsDirectory.entries)
+			private readonly Hashtable classes = new Hashtable();
+			private volatile bool populated;
 
 			internal VfsAssemblyClassesDirectory(Assembly asm)
 			{
@@ -440,13 +455,10 @@ namespace IKVM.Internal
 					}
 					sb.Append(path[path.Length - 1], 0, path[path.Length - 1].Length - 6);
 					string className = sb.ToString();
-					VfsEntry entry;
-					lock (classes)
+					VfsEntry entry = (VfsEntry)classes[className];
+					if (entry != null)
 					{
-						if (classes.TryGetValue(className, out entry))
-						{
-							return entry;
-						}
+						return entry;
 					}
 					AssemblyClassLoader acl = AssemblyClassLoader.FromAssembly(asm);
 					TypeWrapper tw = null;
@@ -461,7 +473,8 @@ namespace IKVM.Internal
 					{
 						lock (classes)
 						{
-							if (!classes.TryGetValue(className, out entry))
+							entry = (VfsEntry)classes[className];
+							if (entry == null)
 							{
 								entry = new VfsAssemblyClass(tw);
 								classes.Add(className, entry);
@@ -486,12 +499,7 @@ namespace IKVM.Internal
 
 			private void Populate()
 			{
-				bool populate;
-				lock (entries)
-				{
-					populate = entries.Count == 0;
-				}
-				if (populate)
+				if (!populated)
 				{
 					Dictionary<string, string> names = new Dictionary<string, string>();
 					AssemblyClassLoader acl = AssemblyClassLoader.FromAssembly(this.asm);
@@ -540,7 +548,7 @@ namespace IKVM.Internal
 					}
 					lock (entries)
 					{
-						if (entries.Count == 0)
+						if (!populated)
 						{
 							foreach (string name in names.Keys)
 							{
@@ -554,6 +562,7 @@ namespace IKVM.Internal
 								// be accessed, because the code above handles that
 								dir.Add(parts[parts.Length - 1] + ".class", VfsDummyFile.Instance);
 							}
+							populated = true;
 						}
 					}
 				}
@@ -563,38 +572,23 @@ namespace IKVM.Internal
 		private sealed class VfsAssemblyClass : VfsFile
 		{
 			private readonly TypeWrapper tw;
-			private volatile byte[] buf;
+			private IKVM.StubGen.StubCache.OversizedStub oversized;
 
 			internal VfsAssemblyClass(TypeWrapper tw)
 			{
 				this.tw = tw;
 			}
 
-			private void Populate()
-			{
-#if !FIRST_PASS
-				if (buf == null)
-				{
-					System.IO.MemoryStream mem = new System.IO.MemoryStream();
-					bool includeNonPublicInterfaces = !"true".Equals(java.lang.Props.props.getProperty("ikvm.stubgen.skipNonPublicInterfaces"), StringComparison.OrdinalIgnoreCase);
-					IKVM.StubGen.StubGenerator.WriteClass(mem, tw, includeNonPublicInterfaces, false, false, true);
-					buf = mem.ToArray();
-				}
-#endif
-			}
-
 			internal override System.IO.Stream Open()
 			{
-				Populate();
-				return new System.IO.MemoryStream(buf);
+				return new System.IO.MemoryStream(IKVM.StubGen.StubCache.GetStub(tw, ref oversized), false);
 			}
 
 			internal override long Size
 			{
 				get
 				{
-					Populate();
-					return buf.Length;
+					return IKVM.StubGen.StubCache.GetStub(tw, ref oversized).Length;
 				}
 			}
 		}
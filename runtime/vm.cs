@@ -98,6 +98,7 @@ namespace IKVM.Internal
 		internal static bool relaxedVerification = true;
 		internal static bool AllowNonVirtualCalls;
 		internal static readonly bool DisableEagerClassLoading = SafeGetEnvironmentVariable("IKVM_DISABLE_EAGER_CLASS_LOADING") != null;
+		internal static readonly bool BackgroundFinish = SafeGetEnvironmentVariable("IKVM_BACKGROUND_FINISH") != null;
 #endif
 
 #if !STATIC_COMPILER && !STUB_GENERATOR && !FIRST_PASS